@@ -25,38 +25,29 @@
 package net.runelite.cache.client;
 
 import com.google.common.base.Stopwatch;
-import io.netty.bootstrap.Bootstrap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
-import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
-import io.netty.channel.ChannelInitializer;
-import io.netty.channel.ChannelOption;
-import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.io.IOException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.ArchiveData;
 import net.runelite.cache.index.IndexData;
-import net.runelite.protocol.update.decoders.HandshakeResponseDecoder;
-import net.runelite.protocol.update.encoders.ArchiveRequestEncoder;
-import net.runelite.protocol.update.encoders.EncryptionEncoder;
-import net.runelite.protocol.api.update.ArchiveRequestPacket;
 import net.runelite.protocol.api.login.HandshakeResponseType;
 import net.runelite.cache.util.Crc32;
-import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
-import net.runelite.protocol.handshake.UpdateHandshakeEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,20 +58,27 @@ public class CacheClient implements AutoCloseable
 	private static final String HOST = "oldschool1.runescape.com";
 	private static final int PORT = 43594;
 
-	private static final int MAX_REQUESTS = 19; // too many and the server closes the conncetion
+	/**
+	 * Maximum number of archives which have been requested but not yet
+	 * handed off, so downloaded data can't pile up in memory when the
+	 * watcher is slower than the download
+	 */
+	private static final int MAX_PENDING_ARCHIVES = 256;
 
 	private final Store store; // store cache will be written to
 	private final String host;
 	private final int clientRevision;
 	private DownloadWatcher watcher;
 
-	private ClientState state;
+	private final EventLoopGroup group;
+	private final CacheConnection[] connections;
+	private int nextConnection;
 
-	private final EventLoopGroup group = new NioEventLoopGroup(1);
-	private Channel channel;
-
-	private CompletableFuture<HandshakeResponseType> handshakeFuture;
-	private final Queue<PendingFileRequest> requests = new ArrayDeque<>();
+	// downloaded archives are verified and saved off of the event loop, on the
+	// given executor or on workers of the client, so a slow watcher stalls
+	// the download and not a shared pool
+	private Executor executor;
+	private ExecutorService ownExecutor;
 
 	public CacheClient(Store store, int clientRevision)
 	{
@@ -89,74 +87,98 @@ public class CacheClient implements AutoCloseable
 
 	public CacheClient(Store store, String host, int clientRevision)
 	{
+		this(store, host, clientRevision, 1);
+	}
+
+	public CacheClient(Store store, String host, int clientRevision, int connections)
+	{
+		if (connections < 1)
+		{
+			throw new IllegalArgumentException("connections must be at least 1");
+		}
+
 		this.store = store;
 		this.host = host;
 		this.clientRevision = clientRevision;
+		this.group = new NioEventLoopGroup(connections);
+		this.connections = new CacheConnection[connections];
+		for (int i = 0; i < connections; ++i)
+		{
+			this.connections[i] = new CacheConnection();
+		}
 	}
 
 	public CacheClient(Store store, int clientRevision, DownloadWatcher watcher)
 	{
-		this(store, clientRevision);
+		this(store, clientRevision, watcher, 1);
+	}
+
+	public CacheClient(Store store, int clientRevision, DownloadWatcher watcher, int connections)
+	{
+		this(store, HOST, clientRevision, connections);
 		this.watcher = watcher;
 	}
 
-	public void connect()
+	/**
+	 * @param store
+	 * @param clientRevision
+	 * @param watcher
+	 * @param connections
+	 * @param executor executor to verify downloaded archives and call the
+	 * watcher on. It must not run tasks on the calling thread, which is a
+	 * network thread.
+	 */
+	public CacheClient(Store store, int clientRevision, DownloadWatcher watcher, int connections, Executor executor)
 	{
-		Bootstrap b = new Bootstrap();
-		b.group(group)
-			.channel(NioSocketChannel.class)
-			.option(ChannelOption.TCP_NODELAY, true)
-			.handler(new ChannelInitializer<SocketChannel>()
-			{
-				@Override
-				public void initChannel(SocketChannel ch) throws Exception
-				{
-					ChannelPipeline p = ch.pipeline();
-
-					//p.addFirst(new HttpProxyHandler(new InetSocketAddress("runelite.net", 3128)));
-					p.addLast("decoder", new HandshakeResponseDecoder());
-
-					p.addLast(
-						new CacheClientHandler(),
-						new HandshakeResponseHandler(CacheClient.this),
-						new ArchiveResponseHandler(CacheClient.this)
-					);
-
-					p.addLast(
-						new UpdateHandshakeEncoder(),
-						new EncryptionEncoder(),
-						new ArchiveRequestEncoder()
-					);
-				}
-			});
+		this(store, clientRevision, watcher, connections);
+		this.executor = executor;
+	}
 
-		// Start the client.
-		ChannelFuture f = b.connect(host, PORT).syncUninterruptibly();
-		channel = f.channel();
+	public void connect()
+	{
+		for (CacheConnection connection : connections)
+		{
+			connection.connect(group, host, PORT);
+		}
 	}
 
 	public CompletableFuture<HandshakeResponseType> handshake()
 	{
-		UpdateHandshakePacket handshakePacket = new UpdateHandshakePacket();
-		handshakePacket.setRevision(getClientRevision());
-
-		state = ClientState.HANDSHAKING;
-
-		assert handshakeFuture == null;
-		handshakeFuture = new CompletableFuture<>();
-
-		channel.writeAndFlush(handshakePacket);
-
-		logger.info("Sent handshake with revision {}", handshakePacket.getRevision());
+		List<CompletableFuture<HandshakeResponseType>> futures = new ArrayList<>(connections.length);
+		for (CacheConnection connection : connections)
+		{
+			futures.add(connection.handshake(clientRevision));
+		}
 
-		return handshakeFuture;
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]))
+			.thenApply(v ->
+			{
+				// report the first connection to not be accepted
+				for (CompletableFuture<HandshakeResponseType> future : futures)
+				{
+					HandshakeResponseType response = future.join();
+					if (response != HandshakeResponseType.RESPONSE_OK)
+					{
+						return response;
+					}
+				}
+				return HandshakeResponseType.RESPONSE_OK;
+			});
 	}
 
 	@Override
 	public void close()
 	{
-		channel.close().syncUninterruptibly();
+		for (CacheConnection connection : connections)
+		{
+			connection.close();
+		}
 		group.shutdownGracefully();
+
+		if (ownExecutor != null)
+		{
+			ownExecutor.shutdown();
+		}
 	}
 
 	public int getClientRevision()
@@ -166,19 +188,19 @@ public class CacheClient implements AutoCloseable
 
 	public ClientState getState()
 	{
+		ClientState state = null;
+		for (CacheConnection connection : connections)
+		{
+			ClientState s = connection.getState();
+			if (s != ClientState.CONNECTED)
+			{
+				return s;
+			}
+			state = s;
+		}
 		return state;
 	}
 
-	void setState(ClientState state)
-	{
-		this.state = state;
-	}
-
-	CompletableFuture<HandshakeResponseType> getHandshakeFuture()
-	{
-		return handshakeFuture;
-	}
-
 	public List<IndexInfo> requestIndexes() throws IOException
 	{
 		logger.info("Requesting indexes");
@@ -201,12 +223,48 @@ public class CacheClient implements AutoCloseable
 	}
 
 	public void download() throws IOException
+	{
+		download(requestIndexes());
+	}
+
+	/**
+	 * Download all archives which differ from the store
+	 *
+	 * @param indexes the index table, from {@link #requestIndexes()}
+	 * @throws IOException
+	 */
+	public void download(List<IndexInfo> indexes) throws IOException
 	{
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		List<IndexInfo> indexes = requestIndexes();
+		if (executor == null)
+		{
+			// the queue never fills, as at most MAX_PENDING_ARCHIVES archives are handed off at once
+			int workers = Runtime.getRuntime().availableProcessors();
+			ownExecutor = new ThreadPoolExecutor(workers, workers,
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(MAX_PENDING_ARCHIVES),
+				new ThreadFactoryBuilder()
+					.setNameFormat("cache-client-%d")
+					.setDaemon(true)
+					.build());
+			executor = ownExecutor;
+		}
+
+		// request all of the indexes up front, so they download
+		// while the archives of earlier indexes are being queued
+		List<CompletableFuture<FileResult>> indexFutures = new ArrayList<>(indexes.size());
 		for (IndexInfo indexInfo : indexes)
 		{
+			indexFutures.add(requestFile(255, indexInfo.getId(), true));
+		}
+
+		List<CompletableFuture<Void>> archiveFutures = new ArrayList<>();
+		Semaphore pendingArchives = new Semaphore(MAX_PENDING_ARCHIVES);
+
+		for (int pos = 0; pos < indexes.size(); ++pos)
+		{
+			IndexInfo indexInfo = indexes.get(pos);
 			int i = indexInfo.getId();
 			int crc = indexInfo.getCrc();
 			int revision = indexInfo.getRevision();
@@ -242,7 +300,7 @@ public class CacheClient implements AutoCloseable
 
 			logger.info("Downloading index {}", i);
 
-			FileResult indexFileResult = requestFile(255, i, true).join();
+			FileResult indexFileResult = indexFutures.get(pos).join();
 			indexFileResult.decompress(null);
 
 			logger.info("Downloaded index {}", i);
@@ -314,146 +372,107 @@ public class CacheClient implements AutoCloseable
 				// Add files
 				archive.setFileData(ad.getFiles());
 
-				CompletableFuture<FileResult> future = requestFile(index.getId(), ad.getId(), false);
-				future.handle((fr, ex) ->
+				if (!pendingArchives.tryAcquire())
 				{
-					byte[] data = fr.getCompressedData();
-
-					Crc32 crc32 = new Crc32();
-					crc32.update(data, 0, data.length);
-					int hash = crc32.getHash();
-
-					if (hash != archive.getCrc())
-					{
-						logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
-							archive.getIndex().getId(), archive.getArchiveId(),
-							hash, archive.getCrc());
-						throw new RuntimeException("crc mismatch");
-					}
-
-					if (watcher != null)
+					// make sure the requests being waited on have been sent
+					for (CacheConnection connection : connections)
 					{
-						watcher.downloadComplete(archive, data);
+						connection.flush();
 					}
-					else
-					{
-						try
-						{
-							Storage storage = store.getStorage();
-							storage.saveArchive(archive, data);
-						}
-						catch (IOException ex1)
-						{
-							logger.warn("unable to save archive data", ex1);
-						}
-					}
-					return null;
-				});
-			}
-		}
-
-		// flush any pending requests
-		channel.flush();
+					pendingArchives.acquireUninterruptibly();
+				}
 
-		while (!requests.isEmpty())
-		{
-			// wait for pending requests
-			synchronized (this)
-			{
+				CompletableFuture<Void> future;
 				try
 				{
-					wait();
+					future = requestFile(index.getId(), ad.getId(), false)
+						.thenAcceptAsync(fr -> archiveDownloaded(archive, fr.getCompressedData()), executor);
 				}
-				catch (InterruptedException ex)
+				catch (RuntimeException ex)
 				{
-					logger.warn(null, ex);
+					pendingArchives.release();
+					throw ex;
 				}
+
+				// the permit is held until the watcher returns
+				future = future.whenComplete((v, ex) -> pendingArchives.release());
+				archiveFutures.add(future.exceptionally(ex ->
+				{
+					logger.warn("error processing archive {}/{}", archive.getIndex().getId(), archive.getArchiveId(), ex);
+					return null;
+				}));
 			}
 		}
 
+		// flush any pending requests
+		for (CacheConnection connection : connections)
+		{
+			connection.flush();
+		}
+
+		// wait for pending requests
+		CompletableFuture.allOf(archiveFutures.toArray(new CompletableFuture[archiveFutures.size()])).join();
+
 		stopwatch.stop();
 		logger.info("Download completed in {}", stopwatch);
 	}
 
-	private synchronized CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
+	private void archiveDownloaded(Archive archive, byte[] data)
 	{
-		if (state != ClientState.CONNECTED)
-		{
-			throw new IllegalStateException("Can't request files until connected!");
-		}
+		Crc32 crc32 = new Crc32();
+		crc32.update(data, 0, data.length);
+		int hash = crc32.getHash();
 
-		if (!flush)
+		if (hash != archive.getCrc())
 		{
-			while (requests.size() >= MAX_REQUESTS)
-			{
-				channel.flush();
-
-				try
-				{
-					wait();
-				}
-				catch (InterruptedException ex)
-				{
-					logger.warn("interrupted while waiting for requests", ex);
-				}
-			}
+			logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
+				archive.getIndex().getId(), archive.getArchiveId(),
+				hash, archive.getCrc());
+			return;
 		}
 
-		ArchiveRequestPacket archiveRequest = new ArchiveRequestPacket();
-		archiveRequest.setPriority(false);
-		archiveRequest.setIndex(index);
-		archiveRequest.setArchive(fileId);
-
-		CompletableFuture<FileResult> future = new CompletableFuture<>();
-		PendingFileRequest pf = new PendingFileRequest(index,
-			fileId, future);
-
-		logger.trace("Sending request for {}/{}", index, fileId);
-
-		requests.add(pf);
-
-		if (!flush)
+		if (watcher != null)
 		{
-			channel.write(archiveRequest);
+			watcher.downloadComplete(archive, data);
 		}
 		else
 		{
-			channel.writeAndFlush(archiveRequest);
+			Storage storage = store.getStorage();
+			try
+			{
+				synchronized (storage)
+				{
+					storage.saveArchive(archive, data);
+				}
+			}
+			catch (IOException ex)
+			{
+				logger.warn("unable to save archive data", ex);
+			}
 		}
-
-		return future;
 	}
 
-	private PendingFileRequest findRequest(int index, int file)
+	private CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
 	{
-		for (PendingFileRequest pr : requests)
+		int start = nextConnection++ % connections.length;
+
+		for (int i = 0; i < connections.length; ++i)
 		{
-			if (pr.getIndex() == index && pr.getArchive() == file)
+			CacheConnection connection = connections[(start + i) % connections.length];
+			if (connection.tryReserve())
 			{
-				return pr;
+				return connection.requestFile(index, fileId, flush);
 			}
 		}
-		return null;
-	}
 
-	protected synchronized void onFileFinish(int index, int file, byte[] compressedData)
-	{
-		PendingFileRequest pr = findRequest(index, file);
-
-		if (pr == null)
+		// every connection has the maximum number of requests in flight
+		for (CacheConnection connection : connections)
 		{
-			logger.warn("File download {}/{} with no pending request", index, file);
-			return;
+			connection.flush();
 		}
 
-		requests.remove(pr);
-
-		notify();
-
-		FileResult result = new FileResult(index, file, compressedData);
-
-		logger.debug("File download finished for index {} file {}, length {}", index, file, compressedData.length);
-
-		pr.getFuture().complete(result);
+		CacheConnection connection = connections[start];
+		connection.reserve();
+		return connection.requestFile(index, fileId, flush);
 	}
 }
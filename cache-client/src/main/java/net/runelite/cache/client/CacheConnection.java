@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import net.runelite.protocol.handshake.UpdateHandshakeEncoder;
+import net.runelite.protocol.update.decoders.HandshakeResponseDecoder;
+import net.runelite.protocol.update.encoders.ArchiveRequestEncoder;
+import net.runelite.protocol.update.encoders.EncryptionEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single connection to the update server, with its own set of in flight
+ * requests
+ */
+public class CacheConnection implements AutoCloseable
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheConnection.class);
+
+	static final int MAX_REQUESTS = 19; // too many and the server closes the conncetion
+
+	private Channel channel;
+	private volatile ClientState state;
+
+	private CompletableFuture<HandshakeResponseType> handshakeFuture;
+	private final Map<Integer, PendingFileRequest> requests = new ConcurrentHashMap<>();
+	private final Semaphore permits = new Semaphore(MAX_REQUESTS);
+
+	public CacheConnection()
+	{
+	}
+
+	/**
+	 * Create a connection over an already connected channel
+	 *
+	 * @param channel
+	 */
+	CacheConnection(Channel channel)
+	{
+		this.channel = channel;
+	}
+
+	void connect(EventLoopGroup group, String host, int port)
+	{
+		Bootstrap b = new Bootstrap();
+		b.group(group)
+			.channel(NioSocketChannel.class)
+			.option(ChannelOption.TCP_NODELAY, true)
+			.handler(new ChannelInitializer<SocketChannel>()
+			{
+				@Override
+				public void initChannel(SocketChannel ch) throws Exception
+				{
+					ChannelPipeline p = ch.pipeline();
+
+					//p.addFirst(new HttpProxyHandler(new InetSocketAddress("runelite.net", 3128)));
+					p.addLast("decoder", new HandshakeResponseDecoder());
+
+					p.addLast(
+						new CacheClientHandler(),
+						new HandshakeResponseHandler(CacheConnection.this),
+						new ArchiveResponseHandler(CacheConnection.this)
+					);
+
+					p.addLast(
+						new UpdateHandshakeEncoder(),
+						new EncryptionEncoder(),
+						new ArchiveRequestEncoder()
+					);
+				}
+			});
+
+		ChannelFuture f = b.connect(host, port).syncUninterruptibly();
+		channel = f.channel();
+	}
+
+	CompletableFuture<HandshakeResponseType> handshake(int revision)
+	{
+		UpdateHandshakePacket handshakePacket = new UpdateHandshakePacket();
+		handshakePacket.setRevision(revision);
+
+		state = ClientState.HANDSHAKING;
+
+		assert handshakeFuture == null;
+		handshakeFuture = new CompletableFuture<>();
+
+		channel.writeAndFlush(handshakePacket);
+
+		logger.info("Sent handshake with revision {}", handshakePacket.getRevision());
+
+		return handshakeFuture;
+	}
+
+	@Override
+	public void close()
+	{
+		channel.close().syncUninterruptibly();
+	}
+
+	public ClientState getState()
+	{
+		return state;
+	}
+
+	void setState(ClientState state)
+	{
+		this.state = state;
+	}
+
+	CompletableFuture<HandshakeResponseType> getHandshakeFuture()
+	{
+		return handshakeFuture;
+	}
+
+	void flush()
+	{
+		channel.flush();
+	}
+
+	/**
+	 * Try to reserve a slot for a request without waiting
+	 *
+	 * @return true if a slot was reserved
+	 */
+	boolean tryReserve()
+	{
+		return permits.tryAcquire();
+	}
+
+	/**
+	 * Reserve a slot for a request, flushing and waiting for in flight
+	 * requests to finish if there are none free
+	 */
+	void reserve()
+	{
+		if (!permits.tryAcquire())
+		{
+			channel.flush();
+			permits.acquireUninterruptibly();
+		}
+	}
+
+	/**
+	 * Request a file. A slot must have been reserved for the request.
+	 *
+	 * @param index
+	 * @param fileId
+	 * @param flush
+	 * @return
+	 */
+	CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
+	{
+		if (state != ClientState.CONNECTED)
+		{
+			permits.release();
+			throw new IllegalStateException("Can't request files until connected!");
+		}
+
+		CompletableFuture<FileResult> future = new CompletableFuture<>();
+		PendingFileRequest pf = new PendingFileRequest(index, fileId, future);
+
+		PendingFileRequest existing = requests.putIfAbsent(key(index, fileId), pf);
+		if (existing != null)
+		{
+			// already in flight
+			permits.release();
+			return existing.getFuture();
+		}
+
+		ArchiveRequestPacket archiveRequest = new ArchiveRequestPacket();
+		archiveRequest.setPriority(false);
+		archiveRequest.setIndex(index);
+		archiveRequest.setArchive(fileId);
+
+		logger.trace("Sending request for {}/{}", index, fileId);
+
+		if (!flush)
+		{
+			channel.write(archiveRequest);
+		}
+		else
+		{
+			channel.writeAndFlush(archiveRequest);
+		}
+
+		return future;
+	}
+
+	void onFileFinish(int index, int file, byte[] compressedData)
+	{
+		PendingFileRequest pr = requests.remove(key(index, file));
+
+		if (pr == null)
+		{
+			logger.warn("File download {}/{} with no pending request", index, file);
+			return;
+		}
+
+		permits.release();
+
+		FileResult result = new FileResult(index, file, compressedData);
+
+		logger.debug("File download finished for index {} file {}, length {}", index, file, compressedData.length);
+
+		pr.getFuture().complete(result);
+	}
+
+	private static int key(int index, int file)
+	{
+		return index << 16 | file;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.CompletableFuture;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CacheConnectionTest
+{
+	private EmbeddedChannel channel;
+	private CacheConnection connection;
+
+	@Before
+	public void before()
+	{
+		channel = new EmbeddedChannel();
+		connection = new CacheConnection(channel);
+		connection.setState(ClientState.CONNECTED);
+	}
+
+	@Test
+	public void testRequestFile()
+	{
+		connection.reserve();
+		CompletableFuture<FileResult> future = connection.requestFile(2, 10, true);
+
+		ArchiveRequestPacket request = channel.readOutbound();
+		assertEquals(2, request.getIndex());
+		assertEquals(10, request.getArchive());
+		assertFalse(future.isDone());
+
+		byte[] data = new byte[]{1, 2, 3};
+		connection.onFileFinish(2, 10, data);
+
+		assertTrue(future.isDone());
+		assertArrayEquals(data, future.join().getCompressedData());
+		assertEquals(CacheConnection.MAX_REQUESTS, reserveAll());
+	}
+
+	@Test
+	public void testDuplicateRequest()
+	{
+		connection.reserve();
+		CompletableFuture<FileResult> future = connection.requestFile(2, 10, true);
+		channel.readOutbound();
+
+		// the second request joins the first and gives its slot back
+		connection.reserve();
+		assertSame(future, connection.requestFile(2, 10, true));
+		assertNull(channel.readOutbound());
+		assertEquals(CacheConnection.MAX_REQUESTS - 1, reserveAll());
+	}
+
+	@Test
+	public void testReserveLimit()
+	{
+		assertEquals(CacheConnection.MAX_REQUESTS, reserveAll());
+		assertFalse(connection.tryReserve());
+	}
+
+	@Test
+	public void testUnexpectedFile()
+	{
+		connection.reserve();
+		connection.requestFile(2, 10, true);
+
+		// a response nobody asked for doesn't free a slot
+		connection.onFileFinish(2, 11, new byte[0]);
+		assertEquals(CacheConnection.MAX_REQUESTS - 1, reserveAll());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testNotConnected()
+	{
+		connection.setState(ClientState.HANDSHAKING);
+		connection.reserve();
+		try
+		{
+			connection.requestFile(2, 10, true);
+		}
+		finally
+		{
+			// the slot is given back when the request fails
+			assertEquals(CacheConnection.MAX_REQUESTS, reserveAll());
+		}
+	}
+
+	private int reserveAll()
+	{
+		int reserved = 0;
+		while (connection.tryReserve())
+		{
+			++reserved;
+		}
+		return reserved;
+	}
+}
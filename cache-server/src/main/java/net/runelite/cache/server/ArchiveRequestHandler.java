@@ -28,8 +28,12 @@ import com.google.common.primitives.Ints;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.util.concurrent.EventExecutor;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -38,7 +42,7 @@ import net.runelite.cache.fs.Store;
 import net.runelite.cache.fs.jagex.CompressionType;
 import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.protocol.api.update.ArchiveRequestPacket;
-import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,31 +50,189 @@ public class ArchiveRequestHandler extends SimpleChannelInboundHandler<ArchiveRe
 {
 	private static final Logger logger = LoggerFactory.getLogger(ArchiveRequestHandler.class);
 
+	/**
+	 * Number of queued requests above which the channel stops being read,
+	 * until the queue drains to half of it
+	 */
+	static final int MAX_PENDING_REQUESTS = 512;
+
+	/**
+	 * Number of queued requests above which the channel is closed. Reads
+	 * already decoded when reading is suspended can go over the soft limit,
+	 * but not by this much.
+	 */
+	static final int MAX_QUEUED_REQUESTS = MAX_PENDING_REQUESTS * 2;
+
+	/**
+	 * Size charged for a request whose response isn't cached, until it is
+	 * served and the real size is known
+	 */
+	static final int UNCACHED_ESTIMATE = 4096;
+
 	private final Store store;
+	private final ArchiveResponseCache responseCache;
+	private final ArchiveRequestScheduler scheduler;
+
+	// requests from logged in clients are urgent and are served before prefetch requests
+	private final Deque<ArchiveRequestPacket> urgentRequests = new ArrayDeque<>();
+	private final Deque<ArchiveRequestPacket> prefetchRequests = new ArrayDeque<>();
+
+	private ChannelHandlerContext ctx;
+	private EventExecutor executor;
+	private final AtomicInteger inFlight = new AtomicInteger();
 
-	public ArchiveRequestHandler(Store store)
+	public ArchiveRequestHandler(Store store, ArchiveResponseCache responseCache, ArchiveRequestScheduler scheduler)
 	{
 		this.store = store;
+		this.responseCache = responseCache;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext ctx) throws Exception
+	{
+		this.ctx = ctx;
+		scheduler.register(this);
+	}
+
+	@Override
+	public void handlerRemoved(ChannelHandlerContext ctx) throws Exception
+	{
+		scheduler.unregister(this);
+
+		synchronized (this)
+		{
+			urgentRequests.clear();
+			prefetchRequests.clear();
+		}
 	}
 
 	@Override
 	protected void channelRead0(ChannelHandlerContext ctx, ArchiveRequestPacket archiveRequest) throws Exception
 	{
+		int pending;
+		synchronized (this)
+		{
+			if (archiveRequest.isPriority())
+			{
+				urgentRequests.add(archiveRequest);
+			}
+			else
+			{
+				prefetchRequests.add(archiveRequest);
+			}
+
+			pending = urgentRequests.size() + prefetchRequests.size();
+		}
+
+		if (pending > MAX_QUEUED_REQUESTS)
+		{
+			logger.warn("Client {} has too many queued requests, closing", ctx.channel().remoteAddress());
+			ctx.close();
+		}
+		else if (pending > MAX_PENDING_REQUESTS && ctx.channel().config().isAutoRead())
+		{
+			logger.debug("Client {} has {} queued requests, suspending reads", ctx.channel().remoteAddress(), pending);
+			ctx.channel().config().setAutoRead(false);
+		}
+	}
+
+	/**
+	 * Take the next pending request of the given priority. Nothing is
+	 * returned while the channel is not writable, so slow clients don't
+	 * use up the budget of others.
+	 *
+	 * @param urgent
+	 * @return
+	 */
+	synchronized ArchiveRequestPacket poll(boolean urgent)
+	{
+		if (!ctx.channel().isWritable())
+		{
+			return null;
+		}
+
+		ArchiveRequestPacket request = urgent ? urgentRequests.poll() : prefetchRequests.poll();
+
+		if (request != null && !ctx.channel().config().isAutoRead()
+			&& urgentRequests.size() + prefetchRequests.size() <= MAX_PENDING_REQUESTS / 2)
+		{
+			ctx.channel().config().setAutoRead(true);
+		}
+
+		return request;
+	}
+
+	EventExecutor getExecutor()
+	{
+		return executor;
+	}
+
+	void setExecutor(EventExecutor executor)
+	{
+		this.executor = executor;
+	}
+
+	int getInFlight()
+	{
+		return inFlight.get();
+	}
+
+	void incrementInFlight()
+	{
+		inFlight.incrementAndGet();
+	}
+
+	void decrementInFlight()
+	{
+		inFlight.decrementAndGet();
+	}
+
+	/**
+	 * Estimate the number of bytes serving a request will write, without
+	 * touching the disk
+	 *
+	 * @param archiveRequest
+	 * @return the size of the cached response, or {@link #UNCACHED_ESTIMATE}
+	 */
+	int estimate(ArchiveRequestPacket archiveRequest)
+	{
+		int size = responseCache.sizeOf(archiveRequest.getIndex(), archiveRequest.getArchive());
+		return size != -1 ? size : UNCACHED_ESTIMATE;
+	}
+
+	/**
+	 * Serve a request
+	 *
+	 * @param archiveRequest
+	 * @return number of bytes written
+	 * @throws IOException
+	 */
+	int serve(ArchiveRequestPacket archiveRequest) throws IOException
+	{
+		ByteBuf cached = responseCache.get(archiveRequest.getIndex(), archiveRequest.getArchive());
+		if (cached != null)
+		{
+			int size = cached.readableBytes();
+			ctx.writeAndFlush(cached);
+			return size;
+		}
+
 		if (archiveRequest.getIndex() == 255)
 		{
-			handleRequest255(ctx, archiveRequest.getIndex(),
+			return handleRequest255(ctx, archiveRequest.getIndex(),
 				archiveRequest.getArchive());
 		}
 		else
 		{
-			handleRequest(ctx, archiveRequest.getIndex(),
+			return handleRequest(ctx, archiveRequest.getIndex(),
 				archiveRequest.getArchive());
 		}
 	}
 
-	private void handleRequest255(ChannelHandlerContext ctx, int index, int archiveId) throws IOException
+	private int handleRequest255(ChannelHandlerContext ctx, int index, int archiveId) throws IOException
 	{
-		logger.info("Client {} requests 255: index {}, archive {}", ctx.channel().remoteAddress(), index, archiveId);
+		logger.debug("Client {} requests 255: index {}, archive {}", ctx.channel().remoteAddress(), index, archiveId);
 
 		byte[] compressed;
 		if (archiveId == 255)
@@ -96,17 +258,12 @@ public class ArchiveRequestHandler extends SimpleChannelInboundHandler<ArchiveRe
 			compressed = storage.readIndex(archiveId);
 		}
 
-		ArchiveResponsePacket response = new ArchiveResponsePacket();
-		response.setIndex(index);
-		response.setArchive(archiveId);
-		response.setData(compressed);
-
-		ctx.writeAndFlush(response);
+		return writeResponse(ctx, index, archiveId, compressed);
 	}
 
-	private void handleRequest(ChannelHandlerContext ctx, int index, int archiveId) throws IOException
+	private int handleRequest(ChannelHandlerContext ctx, int index, int archiveId) throws IOException
 	{
-		logger.info("Client {} requests index {} archive {}", ctx.channel().remoteAddress(), index, archiveId);
+		logger.debug("Client {} requests index {} archive {}", ctx.channel().remoteAddress(), index, archiveId);
 
 		Index i = store.findIndex(index);
 		assert i != null;
@@ -120,7 +277,7 @@ public class ArchiveRequestHandler extends SimpleChannelInboundHandler<ArchiveRe
 		if (packed == null)
 		{
 			logger.warn("Missing archive {}/{}", index, archiveId);
-			return; // is it possible to notify the client of an error with this?
+			return 0; // is it possible to notify the client of an error with this?
 		}
 
 		byte compression = packed[0];
@@ -141,12 +298,18 @@ public class ArchiveRequestHandler extends SimpleChannelInboundHandler<ArchiveRe
 			packed = Arrays.copyOf(packed, packed.length - 2);
 		}
 
-		ArchiveResponsePacket response = new ArchiveResponsePacket();
-		response.setIndex(index);
-		response.setArchive(archiveId);
-		response.setData(packed);
+		return writeResponse(ctx, index, archiveId, packed);
+	}
+
+	private int writeResponse(ChannelHandlerContext ctx, int index, int archiveId, byte[] data)
+	{
+		ByteBuf response = ctx.alloc().directBuffer(ArchiveResponseEncoder.encodedSize(data.length));
+		ArchiveResponseEncoder.encode(index, archiveId, data, response);
 
-		ctx.writeAndFlush(response);
+		int size = response.readableBytes();
+		ctx.writeAndFlush(response.retainedDuplicate());
+		responseCache.put(index, archiveId, response);
+		return size;
 	}
 
 	private byte[] compress(int compression, byte[] data) throws IOException
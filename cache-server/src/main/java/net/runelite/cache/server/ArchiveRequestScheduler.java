@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules queued archive requests from all channels in ticks, each with a
+ * budget of bytes to write. Urgent requests from every channel are dispatched
+ * before any prefetch requests, and channels are served round robin so a
+ * client prefetching the whole cache can't starve the others.
+ * <p>
+ * Scheduling happens on a single thread, but requests are served on a group
+ * of storage threads so disk reads for different channels run in parallel.
+ * Each channel is bound to one storage thread, which keeps its responses in
+ * request order. Each request is charged to the budget when it is
+ * dispatched, at the size of its cached response or an estimate if it isn't
+ * cached, and the charge is corrected to the bytes written once it has been
+ * served. Any overspend is carried into the next tick.
+ */
+public class ArchiveRequestScheduler
+{
+	private static final Logger logger = LoggerFactory.getLogger(ArchiveRequestScheduler.class);
+
+	private static final long TICK_MS = 10;
+
+	/**
+	 * Maximum number of requests of a channel being served at once
+	 */
+	static final int MAX_IN_FLIGHT = 16;
+
+	private final int bytesPerTick;
+	private final List<ArchiveRequestHandler> handlers = new CopyOnWriteArrayList<>();
+	private final AtomicLong budget = new AtomicLong();
+	private int rotation;
+
+	private EventExecutorGroup storageGroup;
+	private ScheduledFuture<?> future;
+
+	public ArchiveRequestScheduler(int bytesPerTick)
+	{
+		this.bytesPerTick = bytesPerTick;
+	}
+
+	/**
+	 * Start scheduling requests
+	 *
+	 * @param executor executor to run the scheduler on
+	 * @param storageGroup executors to serve requests on
+	 */
+	public void start(EventExecutor executor, EventExecutorGroup storageGroup)
+	{
+		this.storageGroup = storageGroup;
+		future = executor.scheduleAtFixedRate(this::tick, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+	}
+
+	public void stop()
+	{
+		if (future != null)
+		{
+			future.cancel(false);
+			future = null;
+		}
+	}
+
+	void register(ArchiveRequestHandler handler)
+	{
+		handler.setExecutor(storageGroup.next());
+		handlers.add(handler);
+	}
+
+	void unregister(ArchiveRequestHandler handler)
+	{
+		handlers.remove(handler);
+	}
+
+	private void tick()
+	{
+		// refill the budget, keeping any debt from requests which were larger than what was left
+		long available = budget.updateAndGet(b -> Math.min(b + bytesPerTick, bytesPerTick));
+
+		ArchiveRequestHandler[] snapshot = handlers.toArray(new ArchiveRequestHandler[0]);
+		if (snapshot.length == 0 || available <= 0)
+		{
+			return;
+		}
+
+		// start each tick with a different channel, so the budget running
+		// out part way through a round doesn't always hit the same channels
+		int start = Math.floorMod(rotation++, snapshot.length);
+
+		dispatch(snapshot, start, true);
+		dispatch(snapshot, start, false);
+	}
+
+	private void dispatch(ArchiveRequestHandler[] handlers, int start, boolean urgent)
+	{
+		boolean dispatched = true;
+		while (dispatched && budget.get() > 0)
+		{
+			dispatched = false;
+
+			// one request per channel per round
+			for (int i = 0; i < handlers.length && budget.get() > 0; ++i)
+			{
+				ArchiveRequestHandler handler = handlers[(start + i) % handlers.length];
+				if (handler.getInFlight() >= MAX_IN_FLIGHT)
+				{
+					continue;
+				}
+
+				ArchiveRequestPacket request = handler.poll(urgent);
+				if (request == null)
+				{
+					continue;
+				}
+
+				// charge the request now, so the budget limits what is dispatched this tick
+				int estimate = handler.estimate(request);
+				budget.addAndGet(-estimate);
+
+				handler.incrementInFlight();
+				handler.getExecutor().execute(() -> serve(handler, request, estimate));
+				dispatched = true;
+			}
+		}
+	}
+
+	private void serve(ArchiveRequestHandler handler, ArchiveRequestPacket request, int estimate)
+	{
+		int written = 0;
+		try
+		{
+			written = handler.serve(request);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			logger.warn("error serving request {}", request, ex);
+		}
+		finally
+		{
+			budget.addAndGet(estimate - written);
+			handler.decrementInFlight();
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.buffer.ByteBuf;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A size bounded LRU cache of encoded archive responses, keyed by index and
+ * archive. Responses are handed out as retained duplicates, so they can be
+ * written to many channels at once without copying.
+ */
+public class ArchiveResponseCache
+{
+	private final long maximumSize;
+	private final Map<Integer, ByteBuf> responses = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	private long hits;
+	private long misses;
+
+	public ArchiveResponseCache(long maximumSize)
+	{
+		this.maximumSize = maximumSize;
+	}
+
+	private static int key(int index, int archive)
+	{
+		return index << 16 | archive;
+	}
+
+	/**
+	 * Get an encoded response
+	 *
+	 * @param index
+	 * @param archive
+	 * @return a retained duplicate of the response which the caller must
+	 * release, or null if it isn't cached
+	 */
+	public synchronized ByteBuf get(int index, int archive)
+	{
+		ByteBuf response = responses.get(key(index, archive));
+		if (response == null)
+		{
+			++misses;
+			return null;
+		}
+
+		++hits;
+		// duplicate under the lock so the response can't be released by an eviction first
+		return response.retainedDuplicate();
+	}
+
+	/**
+	 * Get the size of a cached response, without counting it as a hit or
+	 * a miss
+	 *
+	 * @param index
+	 * @param archive
+	 * @return the encoded size of the response, or -1 if it isn't cached
+	 */
+	public synchronized int sizeOf(int index, int archive)
+	{
+		ByteBuf response = responses.get(key(index, archive));
+		return response != null ? response.readableBytes() : -1;
+	}
+
+	/**
+	 * Add an encoded response, taking ownership of it
+	 *
+	 * @param index
+	 * @param archive
+	 * @param response
+	 */
+	public synchronized void put(int index, int archive, ByteBuf response)
+	{
+		if (response.readableBytes() > maximumSize)
+		{
+			response.release();
+			return;
+		}
+
+		ByteBuf old = responses.put(key(index, archive), response);
+		if (old != null)
+		{
+			size -= old.readableBytes();
+			old.release();
+		}
+		size += response.readableBytes();
+
+		Iterator<ByteBuf> it = responses.values().iterator();
+		while (size > maximumSize && it.hasNext())
+		{
+			ByteBuf eldest = it.next();
+			it.remove();
+			size -= eldest.readableBytes();
+			eldest.release();
+		}
+	}
+
+	public synchronized void clear()
+	{
+		for (ByteBuf response : responses.values())
+		{
+			response.release();
+		}
+		responses.clear();
+		size = 0;
+	}
+
+	public synchronized long size()
+	{
+		return size;
+	}
+
+	public synchronized long getHits()
+	{
+		return hits;
+	}
+
+	public synchronized long getMisses()
+	{
+		return misses;
+	}
+}
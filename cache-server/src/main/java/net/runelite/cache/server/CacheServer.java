@@ -31,6 +31,10 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultEventExecutor;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
 import net.runelite.cache.fs.Store;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,18 +44,39 @@ public class CacheServer implements AutoCloseable
 	private static final Logger logger = LoggerFactory.getLogger(CacheServer.class);
 
 	private static final int PORT = 43594;
+	private static final long RESPONSE_CACHE_SIZE = 256L * 1024 * 1024;
+	private static final int BYTES_PER_TICK = 1024 * 1024;
+	private static final int STORAGE_THREADS = 4;
 
 	private final EventLoopGroup group = new NioEventLoopGroup(1);
+	private final EventExecutor schedulerExecutor = new DefaultEventExecutor();
+	private final EventExecutorGroup storageGroup = new DefaultEventExecutorGroup(STORAGE_THREADS);
 
 	private Channel channel;
 
 	private final Store store;
 	private final int revision;
+	private final ArchiveResponseCache responseCache;
+	private final ArchiveRequestScheduler scheduler;
 
 	public CacheServer(Store store, int revision)
+	{
+		this(store, revision, RESPONSE_CACHE_SIZE, BYTES_PER_TICK);
+	}
+
+	/**
+	 * @param store
+	 * @param revision
+	 * @param responseCacheSize maximum size in bytes of encoded responses to cache
+	 * @param bytesPerTick number of bytes to serve to all clients per
+	 * scheduler tick
+	 */
+	public CacheServer(Store store, int revision, long responseCacheSize, int bytesPerTick)
 	{
 		this.store = store;
 		this.revision = revision;
+		this.responseCache = new ArchiveResponseCache(responseCacheSize);
+		this.scheduler = new ArchiveRequestScheduler(bytesPerTick);
 	}
 
 	public void start()
@@ -62,6 +87,8 @@ public class CacheServer implements AutoCloseable
 			.option(ChannelOption.TCP_NODELAY, true)
 			.childHandler(new CacheServerInitializer(this));
 
+		scheduler.start(schedulerExecutor, storageGroup);
+
 		ChannelFuture f = b.bind(PORT).syncUninterruptibly();
 		channel = f.channel();
 
@@ -78,6 +105,10 @@ public class CacheServer implements AutoCloseable
 	{
 		channel.close().syncUninterruptibly();
 		group.shutdownGracefully();
+		scheduler.stop();
+		schedulerExecutor.shutdownGracefully().syncUninterruptibly();
+		storageGroup.shutdownGracefully().syncUninterruptibly();
+		responseCache.clear();
 	}
 
 	public int getRevision()
@@ -89,4 +120,14 @@ public class CacheServer implements AutoCloseable
 	{
 		return store;
 	}
+
+	public ArchiveRequestScheduler getScheduler()
+	{
+		return scheduler;
+	}
+
+	public ArchiveResponseCache getResponseCache()
+	{
+		return responseCache;
+	}
 }
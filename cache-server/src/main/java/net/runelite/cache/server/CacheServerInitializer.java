@@ -61,8 +61,10 @@ public class CacheServerInitializer extends ChannelInitializer<SocketChannel>
 			new ArchiveResponseEncoder()
 		);
 
+		// archive requests are only queued here, and are served off of
+		// the event loop by the scheduler
 		p.addLast(
-			new ArchiveRequestHandler(server.getStore()),
+			new ArchiveRequestHandler(server.getStore(), server.getResponseCache(), server.getScheduler()),
 			new EncryptionHandler(),
 			new HandshakeHandler(server)
 		);
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ArchiveResponseCacheTest
+{
+	@Test
+	public void testEviction()
+	{
+		ArchiveResponseCache cache = new ArchiveResponseCache(100);
+
+		ByteBuf first = Unpooled.buffer(60).writeZero(60);
+		ByteBuf second = Unpooled.buffer(60).writeZero(60);
+
+		cache.put(0, 1, first);
+		ByteBuf duplicate = cache.get(0, 1);
+		assertNotNull(duplicate);
+		assertEquals(2, first.refCnt());
+
+		cache.put(0, 2, second);
+		assertNull(cache.get(0, 1));
+		assertEquals(60, cache.size());
+
+		// the evicted response is still valid until the duplicate is released
+		assertEquals(1, first.refCnt());
+		assertEquals(60, duplicate.readableBytes());
+		duplicate.release();
+		assertEquals(0, first.refCnt());
+
+		cache.clear();
+		assertEquals(0, second.refCnt());
+	}
+
+	@Test
+	public void testSizeOf()
+	{
+		ArchiveResponseCache cache = new ArchiveResponseCache(100);
+		assertEquals(-1, cache.sizeOf(0, 1));
+
+		cache.put(0, 1, Unpooled.buffer(60).writeZero(60));
+		assertEquals(60, cache.sizeOf(0, 1));
+
+		// sizing a response is not a lookup
+		assertEquals(0, cache.getHits());
+		assertEquals(0, cache.getMisses());
+
+		cache.clear();
+	}
+}
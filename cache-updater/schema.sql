@@ -105,6 +105,22 @@ CREATE TABLE `index_archive` (
   CONSTRAINT `index_archive_ibfk_2` FOREIGN KEY (`archive`) REFERENCES `archive` (`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=latin1;
 /*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Table structure for table `update_archive`
+--
+
+DROP TABLE IF EXISTS `update_archive`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!40101 SET character_set_client = utf8 */;
+CREATE TABLE `update_archive` (
+  `indexId` int(11) NOT NULL,
+  `archive` int(11) NOT NULL,
+  PRIMARY KEY (`indexId`,`archive`),
+  KEY `archive` (`archive`) USING BTREE,
+  CONSTRAINT `update_archive_ibfk_1` FOREIGN KEY (`archive`) REFERENCES `archive` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+/*!40101 SET character_set_client = @saved_cs_client */;
 /*!40103 SET TIME_ZONE=@OLD_TIME_ZONE */;
 
 /*!40101 SET SQL_MODE=@OLD_SQL_MODE */;
@@ -25,10 +25,13 @@
 package net.runelite.cache.updater;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
+import net.runelite.cache.updater.beans.PendingArchiveEntry;
 import org.sql2o.Connection;
 import org.sql2o.Query;
 import org.sql2o.ResultSetIterable;
@@ -36,9 +39,7 @@ import org.sql2o.ResultSetIterable;
 class CacheDAO
 {
 	// cache prepared statements for high volume queries
-	private Query associateArchive;
-	private Query findArchive, insertArchive;
-	private Query associateFile;
+	private Query findArchive;
 
 	public CacheEntry findMostRecent(Connection con)
 	{
@@ -63,6 +64,12 @@ class CacheDAO
 			.executeAndFetchLazy(ArchiveEntry.class);
 	}
 
+	public ResultSetIterable<ArchiveEntry> findArchiveHashes(Connection con)
+	{
+		return con.createQuery("select distinct hash from archive")
+			.executeAndFetchLazy(ArchiveEntry.class);
+	}
+
 	public CacheEntry createCache(Connection con, int revision, Instant date)
 	{
 		int cacheId = con.createQuery("insert into cache (revision, date) values (:revision, :date)")
@@ -96,18 +103,6 @@ class CacheDAO
 		return entry;
 	}
 
-	public void associateArchiveToIndex(Connection con, ArchiveEntry archive, IndexEntry index)
-	{
-		if (associateArchive == null)
-		{
-			associateArchive = con.createQuery("insert into index_archive (`index`, archive) values (:index, :archive)");
-		}
-		associateArchive
-			.addParameter("index", index.getId())
-			.addParameter("archive", archive.getId())
-			.executeUpdate();
-	}
-
 	public ArchiveEntry findArchive(Connection con, IndexEntry index,
 		int archiveId, int nameHash, int crc, int revision)
 	{
@@ -134,44 +129,134 @@ class CacheDAO
 		return entry;
 	}
 
-	public ArchiveEntry createArchive(Connection con, IndexEntry index,
-		int archiveId, int nameHash, int crc, int revision, byte[] hash)
+	/**
+	 * Insert archives with a single batch, setting their ids
+	 */
+	public void createArchives(Connection con, List<ArchiveEntry> archives)
 	{
-		if (insertArchive == null)
+		if (archives.isEmpty())
 		{
-			insertArchive = con.createQuery("insert into archive (archiveId, nameHash, crc, revision, hash) values "
-				+ "(:archiveId, :nameHash, :crc, :revision, :hash)");
+			return;
 		}
 
-		int id = insertArchive
-			.addParameter("archiveId", archiveId)
-			.addParameter("nameHash", nameHash)
-			.addParameter("crc", crc)
-			.addParameter("revision", revision)
-			.addParameter("hash", hash)
-			.executeUpdate()
-			.getKey(int.class);
+		Query query = con.createQuery("insert into archive (archiveId, nameHash, crc, revision, hash) values "
+			+ "(:archiveId, :nameHash, :crc, :revision, :hash)");
 
-		ArchiveEntry entry = new ArchiveEntry();
-		entry.setId(id);
-		entry.setArchiveId(archiveId);
-		entry.setNameHash(nameHash);
-		entry.setCrc(crc);
-		entry.setRevision(revision);
-		entry.setHash(hash);
-		return entry;
+		for (ArchiveEntry archive : archives)
+		{
+			query
+				.addParameter("archiveId", archive.getArchiveId())
+				.addParameter("nameHash", archive.getNameHash())
+				.addParameter("crc", archive.getCrc())
+				.addParameter("revision", archive.getRevision())
+				.addParameter("hash", archive.getHash())
+				.addToBatch();
+		}
+
+		List<Integer> keys = query.executeBatch().getKeys(Integer.class);
+		if (keys.size() != archives.size())
+		{
+			throw new IllegalStateException("expected " + archives.size() + " generated keys, got " + keys.size());
+		}
+
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			archives.get(i).setId(keys.get(i));
+		}
 	}
 
-	public void associateFileToArchive(Connection con, ArchiveEntry archive, int fileId, int nameHash)
+	public void associateFilesToArchives(Connection con, List<FileEntry> files)
 	{
-		if (associateFile == null)
+		if (files.isEmpty())
 		{
-			associateFile = con.createQuery("insert into file (archive, fileId, nameHash) values (:archive, :fileId, :nameHash)");
+			return;
 		}
-		associateFile
-			.addParameter("archive", archive.getId())
-			.addParameter("fileId", fileId)
-			.addParameter("nameHash", nameHash)
+
+		Query query = con.createQuery("insert into file (archive, fileId, nameHash) values (:archive, :fileId, :nameHash)");
+
+		for (FileEntry file : files)
+		{
+			query
+				.addParameter("archive", file.getArchiveId())
+				.addParameter("fileId", file.getFileId())
+				.addParameter("nameHash", file.getNameHash())
+				.addToBatch();
+		}
+
+		query.executeBatch();
+	}
+
+	public void associateArchivesToIndex(Connection con, Collection<ArchiveEntry> archives, IndexEntry index)
+	{
+		if (archives.isEmpty())
+		{
+			return;
+		}
+
+		Query query = con.createQuery("insert into index_archive (`index`, archive) values (:index, :archive)");
+
+		for (ArchiveEntry archive : archives)
+		{
+			query
+				.addParameter("index", index.getId())
+				.addParameter("archive", archive.getId())
+				.addToBatch();
+		}
+
+		query.executeBatch();
+	}
+
+	/**
+	 * Associate all of the archives of one index with another, for
+	 * indexes which have not changed between caches
+	 */
+	public void copyIndexArchives(Connection con, IndexEntry from, IndexEntry to)
+	{
+		con.createQuery("insert into index_archive (`index`, archive) "
+			+ "select :to, archive from index_archive where `index` = :from")
+			.addParameter("to", to.getId())
+			.addParameter("from", from.getId())
+			.executeUpdate();
+	}
+
+	public List<PendingArchiveEntry> findPendingArchives(Connection con)
+	{
+		return con.createQuery("select update_archive.indexId, archive.id, archive.archiveId, archive.nameHash,"
+			+ " archive.crc, archive.revision, archive.hash from update_archive"
+			+ " join archive on update_archive.archive = archive.id")
+			.executeAndFetch(PendingArchiveEntry.class);
+	}
+
+	public ResultSetIterable<FileEntry> findPendingFiles(Connection con)
+	{
+		return con.createQuery("select file.id, file.archive as archiveId, file.fileId, file.nameHash from update_archive"
+			+ " join file on file.archive = update_archive.archive")
+			.executeAndFetchLazy(FileEntry.class);
+	}
+
+	public void createPendingArchives(Connection con, List<PendingArchiveEntry> archives)
+	{
+		if (archives.isEmpty())
+		{
+			return;
+		}
+
+		Query query = con.createQuery("insert into update_archive (indexId, archive) values (:indexId, :archive)");
+
+		for (PendingArchiveEntry archive : archives)
+		{
+			query
+				.addParameter("indexId", archive.getIndexId())
+				.addParameter("archive", archive.getId())
+				.addToBatch();
+		}
+
+		query.executeBatch();
+	}
+
+	public void deletePendingArchives(Connection con)
+	{
+		con.createQuery("delete from update_archive")
 			.executeUpdate();
 	}
 }
@@ -25,7 +25,10 @@
 package net.runelite.cache.updater;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
@@ -33,6 +36,7 @@ import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.FileData;
 import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import org.sql2o.Connection;
 import org.sql2o.ResultSetIterable;
@@ -43,6 +47,11 @@ public class CacheStorage implements Storage
 	private final CacheDAO cacheDao;
 	private final Connection con;
 
+	// index and archive rows which already exist in the database, keyed
+	// by index id and by index id << 16 | archive id
+	private final Map<Integer, IndexEntry> indexEntries = new HashMap<>();
+	private final Map<Integer, ArchiveEntry> archiveEntries = new HashMap<>();
+
 	public CacheStorage(CacheEntry cacheEntry, CacheDAO cacheDao, Connection con)
 	{
 		this.cacheEntry = cacheEntry;
@@ -77,6 +86,7 @@ public class CacheStorage implements Storage
 		for (IndexEntry indexEntry : indexes)
 		{
 			Index index = store.addIndex(indexEntry.getIndexId());
+			indexEntries.put(indexEntry.getIndexId(), indexEntry);
 			index.setCrc(indexEntry.getCrc());
 			index.setRevision(indexEntry.getRevision());
 
@@ -95,6 +105,8 @@ public class CacheStorage implements Storage
 					archive.setRevision(archiveEntry.getRevision());
 					archive.setHash(archiveEntry.getHash());
 
+					addArchiveEntry(index.getId(), archiveEntry);
+
 					// File data is not necessary for cache updating
 				}
 			}
@@ -106,27 +118,113 @@ public class CacheStorage implements Storage
 	{
 		for (Index index : store.getIndexes())
 		{
+			IndexEntry previous = indexEntries.get(index.getId());
 			IndexEntry entry = cacheDao.createIndex(con, cacheEntry, index.getId(), index.getCrc(), index.getRevision());
 
+			if (previous != null && previous.getCrc() == index.getCrc() && previous.getRevision() == index.getRevision()
+				&& isUnchanged(index))
+			{
+				cacheDao.copyIndexArchives(con, previous, entry);
+				continue;
+			}
+
+			List<ArchiveEntry> archives = new ArrayList<>(index.getArchives().size());
+			List<ArchiveEntry> newArchives = new ArrayList<>();
+			List<Archive> newArchiveData = new ArrayList<>();
+
 			for (Archive archive : index.getArchives())
 			{
-				ArchiveEntry archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
-					archive.getNameHash(), archive.getCrc(), archive.getRevision());
+				ArchiveEntry archiveEntry = findArchiveEntry(archive);
 				if (archiveEntry == null)
 				{
-					byte[] hash = archive.getHash();
-					archiveEntry = cacheDao.createArchive(con, entry, archive.getArchiveId(),
-						archive.getNameHash(), archive.getCrc(), archive.getRevision(), hash);
+					archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
+						archive.getNameHash(), archive.getCrc(), archive.getRevision());
+				}
 
-					for (FileData file : archive.getFileData())
-					{
-						cacheDao.associateFileToArchive(con, archiveEntry, file.getId(), file.getNameHash());
-					}
+				if (archiveEntry == null)
+				{
+					archiveEntry = new ArchiveEntry();
+					archiveEntry.setArchiveId(archive.getArchiveId());
+					archiveEntry.setNameHash(archive.getNameHash());
+					archiveEntry.setCrc(archive.getCrc());
+					archiveEntry.setRevision(archive.getRevision());
+					archiveEntry.setHash(archive.getHash());
+
+					newArchives.add(archiveEntry);
+					newArchiveData.add(archive);
 				}
 
-				cacheDao.associateArchiveToIndex(con, archiveEntry, entry);
+				archives.add(archiveEntry);
+			}
+
+			cacheDao.createArchives(con, newArchives);
+			cacheDao.associateFilesToArchives(con, createFileEntries(newArchives, newArchiveData));
+			cacheDao.associateArchivesToIndex(con, archives, entry);
+
+			for (ArchiveEntry archiveEntry : newArchives)
+			{
+				addArchiveEntry(index.getId(), archiveEntry);
+			}
+		}
+	}
+
+	/**
+	 * Register an archive which already exists in the database, so it
+	 * will not be looked up or inserted again when the store is saved
+	 */
+	void addArchiveEntry(int indexId, ArchiveEntry archiveEntry)
+	{
+		archiveEntries.put(indexId << 16 | archiveEntry.getArchiveId(), archiveEntry);
+	}
+
+	private ArchiveEntry findArchiveEntry(Archive archive)
+	{
+		ArchiveEntry archiveEntry = archiveEntries.get(archive.getIndex().getId() << 16 | archive.getArchiveId());
+		if (archiveEntry != null
+			&& archiveEntry.getNameHash() == archive.getNameHash()
+			&& archiveEntry.getCrc() == archive.getCrc()
+			&& archiveEntry.getRevision() == archive.getRevision())
+		{
+			return archiveEntry;
+		}
+		return null;
+	}
+
+	private boolean isUnchanged(Index index)
+	{
+		for (Archive archive : index.getArchives())
+		{
+			if (findArchiveEntry(archive) == null)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static List<FileEntry> createFileEntries(List<ArchiveEntry> archiveEntries, List<Archive> archives)
+	{
+		List<FileEntry> files = new ArrayList<>();
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			ArchiveEntry archiveEntry = archiveEntries.get(i);
+			Archive archive = archives.get(i);
+
+			if (archive.getFileData() == null)
+			{
+				continue;
+			}
+
+			for (FileData file : archive.getFileData())
+			{
+				FileEntry fileEntry = new FileEntry();
+				fileEntry.setArchiveId(archiveEntry.getId());
+				fileEntry.setFileId(file.getId());
+				fileEntry.setNameHash(file.getNameHash());
+				files.add(fileEntry);
 			}
 		}
+		return files;
 	}
 
 	@Override
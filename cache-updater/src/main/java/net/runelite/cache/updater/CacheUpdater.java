@@ -24,19 +24,26 @@
  */
 package net.runelite.cache.updater;
 
+import com.google.common.io.BaseEncoding;
 import io.minio.MinioClient;
 import io.minio.errors.InvalidEndpointException;
 import io.minio.errors.InvalidPortException;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.runelite.cache.client.CacheClient;
 import net.runelite.cache.client.IndexInfo;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import net.runelite.http.api.RuneLiteAPI;
@@ -50,6 +57,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.sql2o.Connection;
+import org.sql2o.ResultSetIterable;
 import org.sql2o.Sql2o;
 
 @SpringBootApplication
@@ -57,6 +65,10 @@ public class CacheUpdater implements CommandLineRunner
 {
 	private static final Logger logger = LoggerFactory.getLogger(CacheUpdater.class);
 
+	private static final int CONNECTIONS = 2;
+	private static final int UPLOAD_THREADS = 8;
+	private static final int UPLOAD_QUEUE_SIZE = 64;
+
 	private final Sql2o sql2o;
 	private final MinioClient minioClient;
 
@@ -92,10 +104,45 @@ public class CacheUpdater implements CommandLineRunner
 			Store store = new Store(storage);
 			store.load();
 
-			ExecutorService executor = Executors.newSingleThreadExecutor();
+			// archives downloaded by a previous run which didn't finish
+			UpdateProgress progress = new UpdateProgress(sql2o, storage);
+			progress.restore(store);
+
+			// every archive in the database has already been uploaded
+			Map<String, CompletableFuture<Void>> uploads = new ConcurrentHashMap<>();
+			CompletableFuture<Void> uploaded = CompletableFuture.completedFuture(null);
+			try (ResultSetIterable<ArchiveEntry> archives = cacheDao.findArchiveHashes(con))
+			{
+				for (ArchiveEntry archive : archives)
+				{
+					uploads.put(BaseEncoding.base16().encode(archive.getHash()), uploaded);
+				}
+			}
+
+			// Once the queue is full uploads run in the client's callback.
+			// The client limits how many downloaded archives can be waiting
+			// on the callback, so this stalls the download instead of
+			// buffering downloaded data without bound.
+			ExecutorService executor = new ThreadPoolExecutor(UPLOAD_THREADS, UPLOAD_THREADS,
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(UPLOAD_QUEUE_SIZE),
+				new ThreadPoolExecutor.CallerRunsPolicy());
 
+			AtomicInteger failedUploads = new AtomicInteger();
 			CacheClient client = new CacheClient(store, rsVersion,
-				(Archive archive, byte[] data) -> executor.submit(new CacheUploader(minioClient, minioBucket, archive, data)));
+				(Archive archive, byte[] data) -> executor.execute(() ->
+				{
+					// only archives whose data is known to be in the bucket are recorded
+					if (new CacheUploader(minioClient, minioBucket, uploads, archive, data).run())
+					{
+						progress.archiveComplete(archive);
+					}
+					else
+					{
+						failedUploads.incrementAndGet();
+					}
+				}),
+				CONNECTIONS);
 
 			client.connect();
 			HandshakeResponseType result = client.handshake().join();
@@ -115,12 +162,7 @@ public class CacheUpdater implements CommandLineRunner
 				return;
 			}
 
-			client.download();
-
-			CacheEntry newCache = created ? cache : cacheDao.createCache(con, rsVersion, Instant.now());
-
-			storage.setCacheEntry(newCache);
-			store.save();
+			client.download(indexes);
 
 			// ensure objects are added to the store before they become
 			// visible in the database
@@ -130,6 +172,24 @@ public class CacheUpdater implements CommandLineRunner
 				logger.debug("Waiting for termination of executor...");
 			}
 
+			progress.flush();
+
+			if (failedUploads.get() > 0)
+			{
+				// the store has archives whose data isn't in the bucket, so
+				// it can't be saved. The uploaded archives have been recorded,
+				// so the next update resumes from here.
+				logger.warn("{} archives failed to upload, not saving cache", failedUploads.get());
+				return;
+			}
+
+			CacheEntry newCache = created ? cache : cacheDao.createCache(con, rsVersion, Instant.now());
+
+			storage.setCacheEntry(newCache);
+			store.save();
+
+			cacheDao.deletePendingArchives(con);
+
 			// commit database
 			con.commit();
 		}
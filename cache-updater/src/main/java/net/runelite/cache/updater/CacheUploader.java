@@ -35,39 +35,68 @@ import io.minio.errors.InvalidBucketNameException;
 import io.minio.errors.NoResponseException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import net.runelite.cache.fs.Archive;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xmlpull.v1.XmlPullParserException;
 
-public class CacheUploader implements Runnable
+/**
+ * Uploads archive data to the object store, keyed by its hash. Uploads of
+ * the same data are shared, so data is only uploaded once however many
+ * archives contain it.
+ */
+public class CacheUploader
 {
 	private static final Logger logger = LoggerFactory.getLogger(CacheUploader.class);
 
 	private final MinioClient minioClient;
 	private final String minioBucket;
+	private final Map<String, CompletableFuture<Void>> uploads; // uploads by hash, completed once the object is in the bucket
 	private final Archive archive;
 	private final byte[] data;
 
-	public CacheUploader(MinioClient minioClient, String minioBucket, Archive archive, byte[] data)
+	public CacheUploader(MinioClient minioClient, String minioBucket, Map<String, CompletableFuture<Void>> uploads, Archive archive, byte[] data)
 	{
 		this.minioClient = minioClient;
 		this.minioBucket = minioBucket;
+		this.uploads = uploads;
 		this.archive = archive;
 		this.data = data;
 	}
 
-	@Override
-	public void run()
+	/**
+	 * Upload the archive data, or wait for an upload of the same data
+	 * already in progress
+	 *
+	 * @return true if the data is in the bucket
+	 */
+	public boolean run()
 	{
 		byte[] hash = Hashing.sha256().hashBytes(data).asBytes();
 		String hashStr = BaseEncoding.base16().encode(hash);
 
 		archive.setHash(hash);
 
+		CompletableFuture<Void> upload = new CompletableFuture<>();
+		CompletableFuture<Void> existing = uploads.putIfAbsent(hashStr, upload);
+		if (existing != null)
+		{
+			try
+			{
+				existing.join();
+				return true;
+			}
+			catch (CompletionException ex)
+			{
+				return false;
+			}
+		}
+
 		String path = new StringBuilder()
 			.append(hashStr.substring(0, 2))
 			.append('/')
@@ -76,20 +105,27 @@ public class CacheUploader implements Runnable
 
 		try
 		{
-			try (InputStream in = minioClient.getObject(minioBucket, path))
+			try
 			{
-				return; // already exists
+				minioClient.statObject(minioBucket, path);
 			}
 			catch (ErrorResponseException ex)
 			{
 				// doesn't exist
+				minioClient.putObject(minioBucket, path, new ByteArrayInputStream(data), data.length, "binary/octet-stream");
 			}
 
-			minioClient.putObject(minioBucket, path, new ByteArrayInputStream(data), data.length, "binary/octet-stream");
+			upload.complete(null);
+			return true;
 		}
-		catch (ErrorResponseException | InsufficientDataException | InternalException | InvalidArgumentException | InvalidBucketNameException | NoResponseException | IOException | InvalidKeyException | NoSuchAlgorithmException | XmlPullParserException ex)
+		catch (ErrorResponseException | InsufficientDataException | InternalException | InvalidArgumentException | InvalidBucketNameException | NoResponseException | IOException | InvalidKeyException | NoSuchAlgorithmException | XmlPullParserException | RuntimeException ex)
 		{
 			logger.warn("unable to upload data to store", ex);
+
+			// let a later archive with the same data try again
+			uploads.remove(hashStr, upload);
+			upload.completeExceptionally(ex);
+			return false;
 		}
 	}
 
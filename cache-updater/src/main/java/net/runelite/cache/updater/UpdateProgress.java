@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.updater.beans.ArchiveEntry;
+import net.runelite.cache.updater.beans.FileEntry;
+import net.runelite.cache.updater.beans.PendingArchiveEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sql2o.Connection;
+import org.sql2o.ResultSetIterable;
+import org.sql2o.Sql2o;
+
+/**
+ * Records archives as they are downloaded, independently of the update
+ * transaction, so an interrupted update can resume without downloading
+ * them again
+ */
+class UpdateProgress
+{
+	private static final Logger logger = LoggerFactory.getLogger(UpdateProgress.class);
+
+	private static final int BATCH_SIZE = 512;
+
+	private final Sql2o sql2o;
+	private final CacheStorage storage;
+	private final CacheDAO cacheDao = new CacheDAO();
+	private final List<Archive> pending = new ArrayList<>();
+
+	UpdateProgress(Sql2o sql2o, CacheStorage storage)
+	{
+		this.sql2o = sql2o;
+		this.storage = storage;
+	}
+
+	/**
+	 * Apply archives downloaded by previous, unfinished, updates to the store
+	 *
+	 * @param store
+	 */
+	void restore(Store store)
+	{
+		try (Connection con = sql2o.open())
+		{
+			List<PendingArchiveEntry> entries = cacheDao.findPendingArchives(con);
+			if (entries.isEmpty())
+			{
+				return;
+			}
+
+			Map<Integer, List<FileData>> files = new HashMap<>();
+			try (ResultSetIterable<FileEntry> fileEntries = cacheDao.findPendingFiles(con))
+			{
+				for (FileEntry fileEntry : fileEntries)
+				{
+					FileData file = new FileData();
+					file.setId(fileEntry.getFileId());
+					file.setNameHash(fileEntry.getNameHash());
+
+					files.computeIfAbsent(fileEntry.getArchiveId(), k -> new ArrayList<>()).add(file);
+				}
+			}
+
+			for (PendingArchiveEntry entry : entries)
+			{
+				Index index = store.findIndex(entry.getIndexId());
+				if (index == null)
+				{
+					index = store.addIndex(entry.getIndexId());
+				}
+
+				Archive archive = index.getArchive(entry.getArchiveId());
+				if (archive == null)
+				{
+					archive = index.addArchive(entry.getArchiveId());
+				}
+
+				archive.setNameHash(entry.getNameHash());
+				archive.setCrc(entry.getCrc());
+				archive.setRevision(entry.getRevision());
+				archive.setHash(entry.getHash());
+
+				List<FileData> archiveFiles = files.get(entry.getId());
+				archive.setFileData(archiveFiles != null
+					? archiveFiles.toArray(new FileData[archiveFiles.size()])
+					: new FileData[0]);
+
+				ArchiveEntry archiveEntry = new ArchiveEntry();
+				archiveEntry.setId(entry.getId());
+				archiveEntry.setArchiveId(entry.getArchiveId());
+				archiveEntry.setNameHash(entry.getNameHash());
+				archiveEntry.setCrc(entry.getCrc());
+				archiveEntry.setRevision(entry.getRevision());
+				archiveEntry.setHash(entry.getHash());
+				storage.addArchiveEntry(entry.getIndexId(), archiveEntry);
+			}
+
+			logger.info("Resuming update with {} previously downloaded archives", entries.size());
+		}
+	}
+
+	/**
+	 * Record an archive as downloaded. The archive hash must already be set.
+	 *
+	 * @param archive
+	 */
+	synchronized void archiveComplete(Archive archive)
+	{
+		pending.add(archive);
+
+		if (pending.size() >= BATCH_SIZE)
+		{
+			flush();
+		}
+	}
+
+	synchronized void flush()
+	{
+		if (pending.isEmpty())
+		{
+			return;
+		}
+
+		List<ArchiveEntry> archiveEntries = new ArrayList<>(pending.size());
+		List<PendingArchiveEntry> pendingEntries = new ArrayList<>(pending.size());
+
+		for (Archive archive : pending)
+		{
+			ArchiveEntry archiveEntry = new ArchiveEntry();
+			archiveEntry.setArchiveId(archive.getArchiveId());
+			archiveEntry.setNameHash(archive.getNameHash());
+			archiveEntry.setCrc(archive.getCrc());
+			archiveEntry.setRevision(archive.getRevision());
+			archiveEntry.setHash(archive.getHash());
+			archiveEntries.add(archiveEntry);
+		}
+
+		try (Connection con = sql2o.beginTransaction())
+		{
+			cacheDao.createArchives(con, archiveEntries);
+			cacheDao.associateFilesToArchives(con, CacheStorage.createFileEntries(archiveEntries, pending));
+
+			for (int i = 0; i < pending.size(); ++i)
+			{
+				ArchiveEntry archiveEntry = archiveEntries.get(i);
+
+				PendingArchiveEntry pendingEntry = new PendingArchiveEntry();
+				pendingEntry.setIndexId(pending.get(i).getIndex().getId());
+				pendingEntry.setId(archiveEntry.getId());
+				pendingEntries.add(pendingEntry);
+			}
+
+			cacheDao.createPendingArchives(con, pendingEntries);
+			con.commit();
+		}
+
+		for (int i = 0; i < pending.size(); ++i)
+		{
+			storage.addArchiveEntry(pending.get(i).getIndex().getId(), archiveEntries.get(i));
+		}
+
+		logger.debug("Recorded {} downloaded archives", pending.size());
+		pending.clear();
+	}
+}
@@ -31,12 +31,14 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.ParallelStoreLoader;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
@@ -58,14 +60,35 @@ public class SpriteManager implements SpriteProvider
 		for (Archive a : index.getArchives())
 		{
 			byte[] contents = a.decompress(storage.loadArchive(a));
+			loadSprites(a, contents);
+		}
+	}
 
-			SpriteLoader loader = new SpriteLoader();
-			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
+	/**
+	 * Load sprites, decompressing the sprite archives in parallel
+	 *
+	 * @param parallelLoader
+	 * @throws IOException
+	 */
+	public void load(ParallelStoreLoader parallelLoader) throws IOException
+	{
+		Index index = store.getIndex(IndexType.SPRITES);
+		Map<Archive, byte[]> contents = parallelLoader.decompressArchives(index);
 
-			for (SpriteDefinition sprite : defs)
-			{
-				sprites.put(sprite.getId(), sprite);
-			}
+		for (Archive a : index.getArchives())
+		{
+			loadSprites(a, contents.get(a));
+		}
+	}
+
+	private void loadSprites(Archive a, byte[] contents)
+	{
+		SpriteLoader loader = new SpriteLoader();
+		SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
+
+		for (SpriteDefinition sprite : defs)
+		{
+			sprites.put(sprite.getId(), sprite);
 		}
 	}
 
@@ -169,7 +169,13 @@ public class Archive
 
 	public void setNameHash(int nameHash)
 	{
+		int oldNameHash = this.nameHash;
 		this.nameHash = nameHash;
+
+		if (oldNameHash != nameHash)
+		{
+			index.updateArchiveName(this, oldNameHash);
+		}
 	}
 
 	public int getCrc()
@@ -27,8 +27,9 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntFunction;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -41,6 +42,9 @@ public class Container
 {
 	private static final Logger logger = LoggerFactory.getLogger(Container.class);
 
+	private static final int HEADER_LENGTH = 5; // compression + compressed length
+	private static final int MAX_DECOMPRESSED_LENGTH = 1 << 25;
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -92,115 +96,141 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		// decryption is done in place, so don't clobber the caller's data
+		return decompressInPlace(keys != null ? b.clone() : b, keys);
+	}
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
-		if (compressedLength < 0 || compressedLength > 1000000)
-		{
-			throw new RuntimeException("Invalid data");
-		}
+	/**
+	 * Decompress a container, decrypting the encrypted part of b in place
+	 * and decompressing directly into a buffer of the decompressed length.
+	 *
+	 * @param b container data, which is modified if keys are given
+	 * @param keys xtea keys, or null
+	 * @return
+	 * @throws IOException
+	 */
+	public static Container decompressInPlace(byte[] b, int[] keys) throws IOException
+	{
+		int compression = b[0] & 0xFF;
+		int end = payloadEnd(b);
 
 		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
+		crc32.update(b, 0, end); // compression + length + payload
 
-		byte[] data;
 		int revision = -1;
-		switch (compression)
+		if (b.length - end >= 2)
 		{
-			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
+			revision = ((b[end] & 0xFF) << 8) | (b[end + 1] & 0xFF);
+		}
 
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+		decrypt(b, end, keys);
 
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+		byte[] data;
+		if (compression == CompressionType.NONE)
+		{
+			data = Arrays.copyOfRange(b, HEADER_LENGTH, end);
+		}
+		else
+		{
+			data = new byte[readDecompressedLength(b)];
+			decompressPayload(b, data, data.length);
+		}
 
-				data = decryptedData;
+		Container container = new Container(compression, revision);
+		container.data = data;
+		container.crc = crc32.getHash();
+		return container;
+	}
 
-				break;
-			}
-			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
+	/**
+	 * Decompress a container into a buffer supplied by the caller, so a
+	 * caller decompressing many containers can reuse one buffer. The
+	 * encrypted part of b is decrypted in place.
+	 *
+	 * @param b container data, which is modified if keys are given
+	 * @param keys xtea keys, or null
+	 * @param buffers given the decompressed length, returns a buffer at least that long
+	 * @return the decompressed length, which is the length of the data at the start of the buffer
+	 * @throws IOException
+	 */
+	public static int decompressInPlace(byte[] b, int[] keys, IntFunction<byte[]> buffers) throws IOException
+	{
+		int compression = b[0] & 0xFF;
+		int end = payloadEnd(b);
 
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+		decrypt(b, end, keys);
 
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+		if (compression == CompressionType.NONE)
+		{
+			int length = end - HEADER_LENGTH;
+			System.arraycopy(b, HEADER_LENGTH, buffers.apply(length), 0, length);
+			return length;
+		}
 
-				stream = new InputStream(decryptedData);
+		int length = readDecompressedLength(b);
+		decompressPayload(b, buffers.apply(length), length);
+		return length;
+	}
 
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
+	/**
+	 * Validate the header of a container
+	 *
+	 * @param b container data
+	 * @return the offset of the end of the payload
+	 */
+	private static int payloadEnd(byte[] b)
+	{
+		int compression = b[0] & 0xFF;
+		int compressedLength = Ints.fromBytes(b[1], b[2], b[3], b[4]);
+		if (compressedLength < 0 || compressedLength > 1000000)
+		{
+			throw new RuntimeException("Invalid data");
+		}
 
-				if (data == null)
-				{
-					return null;
-				}
+		// compressed containers have the decompressed length prepended
+		int payloadLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4;
+		int end = HEADER_LENGTH + payloadLength;
+		if (end > b.length)
+		{
+			throw new RuntimeException("Invalid data");
+		}
+		return end;
+	}
 
-				assert data.length == decompressedLength;
+	private static void decrypt(byte[] b, int end, int[] keys)
+	{
+		if (keys != null)
+		{
+			Xtea xtea = new Xtea(keys);
+			xtea.decrypt(b, HEADER_LENGTH, end - HEADER_LENGTH);
+		}
+	}
 
+	private static void decompressPayload(byte[] b, byte[] dest, int length) throws IOException
+	{
+		int compressedLength = Ints.fromBytes(b[1], b[2], b[3], b[4]);
+		switch (b[0] & 0xFF)
+		{
+			case CompressionType.BZ2:
+				BZip2.decompress(b, HEADER_LENGTH + 4, compressedLength, dest, length);
 				break;
-			}
 			case CompressionType.GZ:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-
-				if (data == null)
-				{
-					return null;
-				}
-
-				assert data.length == decompressedLength;
-
+				GZip.decompress(b, HEADER_LENGTH + 4, compressedLength, dest, length);
 				break;
-			}
 			default:
 				throw new RuntimeException("Unknown decompression type");
 		}
-
-		Container container = new Container(compression, revision);
-		container.data = data;
-		container.crc = crc32.getHash();
-		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static int readDecompressedLength(byte[] b) throws IOException
 	{
-		if (keys == null)
+		int decompressedLength = Ints.fromBytes(b[HEADER_LENGTH], b[HEADER_LENGTH + 1], b[HEADER_LENGTH + 2], b[HEADER_LENGTH + 3]);
+		// a bad length is usually the result of decrypting with the wrong keys
+		if (decompressedLength < 0 || decompressedLength > MAX_DECOMPRESSED_LENGTH)
 		{
-			return data;
+			throw new IOException("Invalid decompressed length " + decompressedLength);
 		}
-
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+		return decompressedLength;
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
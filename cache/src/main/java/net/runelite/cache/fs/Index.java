@@ -24,7 +24,10 @@
  */
 package net.runelite.cache.fs;
 
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import net.runelite.cache.index.ArchiveData;
@@ -47,6 +50,8 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	private final IntObjectMap<Archive> archivesById = new IntObjectHashMap<>();
+	private final IntObjectMap<Archive> archivesByName = new IntObjectHashMap<>();
 
 	public Index(int id)
 	{
@@ -147,17 +152,78 @@ public class Index
 
 	public List<Archive> getArchives()
 	{
-		return archives;
+		return Collections.unmodifiableList(archives);
 	}
 
 	public Archive addArchive(int id)
 	{
 		Archive archive = new Archive(this, id);
 		this.archives.add(archive);
+
+		// lookups return the first archive added with a given id
+		if (!archivesById.containsKey(id))
+		{
+			archivesById.put(id, archive);
+		}
 		return archive;
 	}
 
-	public Archive getArchive(int id)
+	public void removeArchive(Archive archive)
+	{
+		assert archive.getIndex() == this;
+
+		if (!archives.remove(archive))
+		{
+			return;
+		}
+
+		if (archivesById.get(archive.getArchiveId()) == archive)
+		{
+			archivesById.remove(archive.getArchiveId());
+			Archive other = scanArchive(archive.getArchiveId());
+			if (other != null)
+			{
+				archivesById.put(other.getArchiveId(), other);
+			}
+		}
+
+		removeName(archive, archive.getNameHash());
+	}
+
+	/**
+	 * Called by the archive when its name hash changes, to keep the
+	 * name lookup consistent.
+	 */
+	void updateArchiveName(Archive archive, int oldNameHash)
+	{
+		removeName(archive, oldNameHash);
+
+		int nameHash = archive.getNameHash();
+		if (nameHash != 0 && !archivesByName.containsKey(nameHash))
+		{
+			archivesByName.put(nameHash, archive);
+		}
+	}
+
+	private void removeName(Archive archive, int nameHash)
+	{
+		if (nameHash == 0 || archivesByName.get(nameHash) != archive)
+		{
+			return;
+		}
+
+		archivesByName.remove(nameHash);
+		for (Archive a : archives)
+		{
+			if (a != archive && a.getNameHash() == nameHash)
+			{
+				archivesByName.put(nameHash, a);
+				break;
+			}
+		}
+	}
+
+	private Archive scanArchive(int id)
 	{
 		for (Archive a : archives)
 		{
@@ -169,17 +235,32 @@ public class Index
 		return null;
 	}
 
+	public Archive getArchive(int id)
+	{
+		return archivesById.get(id);
+	}
+
 	public Archive findArchiveByName(String name)
 	{
-		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+		return findArchiveByNameHash(Djb2.hash(name));
+	}
+
+	public Archive findArchiveByNameHash(int nameHash)
+	{
+		if (nameHash == 0)
 		{
-			if (a.getNameHash() == hash)
+			// unnamed archives aren't indexed by name
+			for (Archive a : archives)
 			{
-				return a;
+				if (a.getNameHash() == 0)
+				{
+					return a;
+				}
 			}
+			return null;
 		}
-		return null;
+
+		return archivesByName.get(nameHash);
 	}
 
 	public IndexData toIndexData()
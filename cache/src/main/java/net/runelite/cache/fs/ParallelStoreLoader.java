@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import static net.runelite.cache.util.CompletableFutures.join;
+
+/**
+ * Loads a store and the archives of its indexes concurrently on a
+ * {@link ForkJoinPool}.
+ * <p>
+ * Each {@link Index} is decoded by a single task, and each {@link Archive}
+ * is decompressed by a single task, so no index or archive is mutated by
+ * more than one thread. Results are only published once all tasks have
+ * completed.
+ */
+public class ParallelStoreLoader
+{
+	private final Store store;
+	private final ForkJoinPool pool;
+
+	public ParallelStoreLoader(Store store)
+	{
+		this(store, ForkJoinPool.commonPool());
+	}
+
+	public ParallelStoreLoader(Store store, ForkJoinPool pool)
+	{
+		this.store = store;
+		this.pool = pool;
+	}
+
+	/**
+	 * Load the indexes of the store
+	 *
+	 * @throws IOException
+	 */
+	public void load() throws IOException
+	{
+		store.load(pool);
+	}
+
+	/**
+	 * Load and decompress every archive of an index
+	 *
+	 * @param index
+	 * @return map of archive to decompressed archive data
+	 * @throws IOException
+	 */
+	public Map<Archive, byte[]> decompressArchives(Index index) throws IOException
+	{
+		Storage storage = store.getStorage();
+		List<Archive> archives = new ArrayList<>(index.getArchives());
+		List<CompletableFuture<byte[]>> futures = new ArrayList<>(archives.size());
+
+		for (Archive archive : archives)
+		{
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return archive.decompress(storage.loadArchive(archive));
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, pool));
+		}
+
+		Map<Archive, byte[]> result = new HashMap<>(archives.size());
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			result.put(archives.get(i), join(futures.get(i)));
+		}
+		return result;
+	}
+
+	/**
+	 * Load, decompress, and split into files every archive of an index
+	 *
+	 * @param index
+	 * @return map of archive to archive files
+	 * @throws IOException
+	 */
+	public Map<Archive, ArchiveFiles> loadArchiveFiles(Index index) throws IOException
+	{
+		Storage storage = store.getStorage();
+		List<Archive> archives = new ArrayList<>(index.getArchives());
+		List<CompletableFuture<ArchiveFiles>> futures = new ArrayList<>(archives.size());
+
+		for (Archive archive : archives)
+		{
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return archive.getFiles(storage.loadArchive(archive));
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, pool));
+		}
+
+		Map<Archive, ArchiveFiles> result = new HashMap<>(archives.size());
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			result.put(archives.get(i), join(futures.get(i)));
+		}
+		return result;
+	}
+}
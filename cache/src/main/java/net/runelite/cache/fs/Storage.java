@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
 public interface Storage extends AutoCloseable
 {
@@ -35,6 +36,19 @@ public interface Storage extends AutoCloseable
 
 	void load(Store store) throws IOException;
 
+	/**
+	 * Load the store, allowing indexes to be decoded concurrently on the
+	 * given executor. Storages which can't load in parallel load serially.
+	 *
+	 * @param store
+	 * @param executor
+	 * @throws IOException
+	 */
+	default void load(Store store, Executor executor) throws IOException
+	{
+		load(store);
+	}
+
 	void save(Store store) throws IOException;
 
 	byte[] loadArchive(Archive archive) throws IOException;
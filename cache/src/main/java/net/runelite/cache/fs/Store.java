@@ -29,8 +29,10 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
 import org.slf4j.Logger;
@@ -41,7 +43,10 @@ public final class Store implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(Store.class);
 
 	private final Storage storage;
+	private static final int MAX_INDEXES = 256;
+
 	private final List<Index> indexes = new ArrayList<>();
+	private final Index[] indexesById = new Index[MAX_INDEXES];
 
 	public Store(File folder) throws IOException
 	{
@@ -96,16 +101,19 @@ public final class Store implements Closeable
 
 	public final Index addIndex(int id) throws FileNotFoundException
 	{
-		for (Index i : indexes)
+		if (id < 0 || id >= MAX_INDEXES)
+		{
+			throw new IllegalArgumentException("invalid index id " + id);
+		}
+
+		if (indexesById[id] != null)
 		{
-			if (i.getId() == id)
-			{
-				throw new IllegalArgumentException("index " + id + " already exists");
-			}
+			throw new IllegalArgumentException("index " + id + " already exists");
 		}
 
 		Index index = new Index(id);
 		this.indexes.add(index);
+		indexesById[id] = index;
 
 		return index;
 	}
@@ -114,6 +122,7 @@ public final class Store implements Closeable
 	{
 		assert indexes.contains(index);
 		indexes.remove(index);
+		indexesById[index.getId()] = null;
 	}
 
 	public void load() throws IOException
@@ -121,6 +130,24 @@ public final class Store implements Closeable
 		storage.load(this);
 	}
 
+	/**
+	 * Load the store, decoding indexes concurrently on the given executor
+	 * <p>
+	 * {@link Index} and {@link Archive} are not thread safe. Loading is safe
+	 * only because each index, and the archives in it, is populated by the
+	 * single task loading that index, and the store's index list is not
+	 * modified. The store must not be used by other threads until this
+	 * method returns, which happens after all tasks have completed.
+	 *
+	 * @param executor
+	 * @throws IOException
+	 * @see ParallelStoreLoader
+	 */
+	public void load(Executor executor) throws IOException
+	{
+		storage.load(this, executor);
+	}
+
 	public void save() throws IOException
 	{
 		storage.save(this);
@@ -128,7 +155,7 @@ public final class Store implements Closeable
 
 	public List<Index> getIndexes()
 	{
-		return indexes;
+		return Collections.unmodifiableList(indexes);
 	}
 
 	public Index getIndex(IndexType type)
@@ -138,13 +165,10 @@ public final class Store implements Closeable
 
 	public Index findIndex(int id)
 	{
-		for (Index i : indexes)
+		if (id < 0 || id >= MAX_INDEXES)
 		{
-			if (i.getId() == id)
-			{
-				return i;
-			}
+			return null;
 		}
-		return null;
+		return indexesById[id];
 	}
 }
@@ -28,8 +28,11 @@ import com.google.common.primitives.Ints;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -37,6 +40,7 @@ import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.ArchiveData;
 import net.runelite.cache.index.IndexData;
+import net.runelite.cache.util.CompletableFutures;
 import net.runelite.cache.util.Crc32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,22 +53,63 @@ public class DiskStorage implements Storage
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
+	private final boolean mapped;
 
 	private final DataFile data;
 	private final IndexFile index255;
 	private final List<IndexFile> indexFiles = new ArrayList<>();
 
+	private final MappedDataFile mappedData;
+	private final MappedIndexFile mappedIndex255;
+	private MappedIndexFile[] mappedIndexFiles;
+
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * @param folder cache folder
+	 * @param mapped whether to map the cache files into memory. Mapped
+	 * storage is read only, and archives may be loaded from it by many
+	 * threads at once.
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean mapped) throws IOException
 	{
 		this.folder = folder;
+		this.mapped = mapped;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
-		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		if (mapped)
+		{
+			this.data = null;
+			this.index255 = null;
+			this.mappedData = new MappedDataFile(new File(folder, MAIN_FILE_CACHE_DAT));
+			this.mappedIndex255 = new MappedIndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		}
+		else
+		{
+			this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
+			this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+			this.mappedData = null;
+			this.mappedIndex255 = null;
+		}
+	}
+
+	public boolean isMapped()
+	{
+		return mapped;
 	}
 
 	@Override
 	public void init(Store store) throws IOException
 	{
+		if (mapped)
+		{
+			initMapped(store);
+			return;
+		}
+
 		for (int i = 0; i < index255.getIndexCount(); ++i)
 		{
 			store.addIndex(i);
@@ -74,9 +119,43 @@ public class DiskStorage implements Storage
 		assert store.getIndexes().size() == indexFiles.size();
 	}
 
+	private void initMapped(Store store) throws IOException
+	{
+		int count = mappedIndex255.getIndexCount();
+		mappedIndexFiles = new MappedIndexFile[count];
+
+		for (int i = 0; i < count; ++i)
+		{
+			store.addIndex(i);
+
+			File file = new File(folder, MAIN_FILE_CACHE_IDX + i);
+			if (file.exists())
+			{
+				mappedIndexFiles[i] = new MappedIndexFile(i, file);
+			}
+		}
+	}
+
 	@Override
 	public void close() throws IOException
 	{
+		if (mapped)
+		{
+			mappedData.close();
+			mappedIndex255.close();
+			if (mappedIndexFiles != null)
+			{
+				for (MappedIndexFile indexFile : mappedIndexFiles)
+				{
+					if (indexFile != null)
+					{
+						indexFile.close();
+					}
+				}
+			}
+			return;
+		}
+
 		data.close();
 		index255.close();
 		for (IndexFile indexFile : indexFiles)
@@ -85,7 +164,7 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	private synchronized IndexFile getIndex(int i) throws FileNotFoundException
 	{
 		for (IndexFile indexFile : indexFiles)
 		{
@@ -109,8 +188,37 @@ public class DiskStorage implements Storage
 		}
 	}
 
+	@Override
+	public void load(Store store, Executor executor) throws IOException
+	{
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (Index index : store.getIndexes())
+		{
+			// each index is only ever touched by the task loading it
+			futures.add(CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					loadIndex(index);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, executor));
+		}
+
+		CompletableFutures.join(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])));
+	}
+
 	public byte[] readIndex(int indexId) throws IOException
 	{
+		if (mapped)
+		{
+			IndexEntry entry = mappedIndex255.read(indexId);
+			return mappedData.read(mappedIndex255.getIndexFileId(), entry.getId(), entry.getSector(), entry.getLength());
+		}
+
 		IndexEntry entry = index255.read(indexId);
 		byte[] indexData = data.read(index255.getIndexFileId(), entry.getId(), entry.getSector(), entry.getLength());
 		return indexData;
@@ -150,6 +258,11 @@ public class DiskStorage implements Storage
 	@Override
 	public byte[] loadArchive(Archive archive) throws IOException
 	{
+		if (mapped)
+		{
+			return loadMappedArchive(archive);
+		}
+
 		Index index = archive.getIndex();
 		IndexFile indexFile = getIndex(index.getId());
 
@@ -171,9 +284,28 @@ public class DiskStorage implements Storage
 		return archiveData;
 	}
 
+	private byte[] loadMappedArchive(Archive archive)
+	{
+		Index index = archive.getIndex();
+		MappedIndexFile indexFile = index.getId() < mappedIndexFiles.length ? mappedIndexFiles[index.getId()] : null;
+		IndexEntry entry = indexFile != null ? indexFile.read(archive.getArchiveId()) : null;
+		if (entry == null)
+		{
+			logger.debug("can't read archive " + archive.getArchiveId() + " from index " + index.getId());
+			return null;
+		}
+
+		return mappedData.read(index.getId(), entry.getId(), entry.getSector(), entry.getLength());
+	}
+
 	@Override
 	public void save(Store store) throws IOException
 	{
+		if (mapped)
+		{
+			throw new UnsupportedOperationException("mapped storage is read only");
+		}
+
 		logger.debug("Saving store");
 
 		for (Index i : store.getIndexes())
@@ -202,6 +334,11 @@ public class DiskStorage implements Storage
 	@Override
 	public void saveArchive(Archive a, byte[] archiveData) throws IOException
 	{
+		if (mapped)
+		{
+			throw new UnsupportedOperationException("mapped storage is read only");
+		}
+
 		Index index = a.getIndex();
 		IndexFile indexFile = getIndex(index.getId());
 		assert indexFile.getIndexFileId() == index.getId();
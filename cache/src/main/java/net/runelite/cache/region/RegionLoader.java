@@ -25,9 +25,14 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
 import net.runelite.cache.definitions.MapDefinition;
@@ -37,6 +42,7 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.CompletableFutures;
 import net.runelite.cache.util.XteaKeyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,6 +81,42 @@ public class RegionLoader
 		}
 	}
 
+	/**
+	 * Load regions, decompressing and decrypting their archives in
+	 * parallel on the given pool
+	 *
+	 * @param pool
+	 * @throws IOException
+	 */
+	public void loadRegions(ForkJoinPool pool) throws IOException
+	{
+		List<CompletableFuture<Region>> futures = new ArrayList<>();
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			final int regionId = i;
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return loadRegionFromArchive(regionId);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, pool));
+		}
+
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			Region region = CompletableFutures.join(futures.get(i));
+			if (region != null)
+			{
+				regions.put(i, region);
+			}
+		}
+	}
+
 	public Region loadRegionFromArchive(int i) throws IOException
 	{
 		int x = i >> 8;
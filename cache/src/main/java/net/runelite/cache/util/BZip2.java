@@ -24,11 +24,13 @@
  */
 package net.runelite.cache.util;
 
+import com.google.common.io.ByteStreams;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
@@ -68,19 +70,53 @@ public class BZip2
 
 	public static byte[] decompress(byte[] bytes, int len) throws IOException
 	{
-		byte[] data = new byte[len + BZIP_HEADER.length];
-
-		// add header
-		System.arraycopy(BZIP_HEADER, 0, data, 0, BZIP_HEADER.length);
-		System.arraycopy(bytes, 0, data, BZIP_HEADER.length, len);
-
 		ByteArrayOutputStream os = new ByteArrayOutputStream();
 
-		try (InputStream is = new BZip2CompressorInputStream(new ByteArrayInputStream(data)))
+		try (InputStream is = new BZip2CompressorInputStream(headerPrefixed(bytes, 0, len)))
 		{
 			IOUtils.copy(is, os);
 		}
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress data with a known decompressed length directly into
+	 * a destination buffer
+	 *
+	 * @param bytes compressed data, without the bzip header
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param dest destination buffer, which is filled completely
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] dest) throws IOException
+	{
+		decompress(bytes, off, len, dest, dest.length);
+	}
+
+	/**
+	 * Decompress data with a known decompressed length into the start of
+	 * a destination buffer, which may be larger than the data
+	 *
+	 * @param bytes compressed data, without the bzip header
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param dest destination buffer
+	 * @param destLen decompressed length
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] dest, int destLen) throws IOException
+	{
+		try (InputStream is = new BZip2CompressorInputStream(headerPrefixed(bytes, off, len)))
+		{
+			ByteStreams.readFully(is, dest, 0, destLen);
+		}
+	}
+
+	private static InputStream headerPrefixed(byte[] bytes, int off, int len)
+	{
+		// the header is stripped from stored data, so prepend it without copying the data
+		return new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(bytes, off, len));
+	}
 }
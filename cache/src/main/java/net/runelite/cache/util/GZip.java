@@ -25,6 +25,7 @@
 
 package net.runelite.cache.util;
 
+import com.google.common.io.ByteStreams;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -64,4 +65,38 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress data with a known decompressed length directly into
+	 * a destination buffer
+	 *
+	 * @param bytes compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param dest destination buffer, which is filled completely
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] dest) throws IOException
+	{
+		decompress(bytes, off, len, dest, dest.length);
+	}
+
+	/**
+	 * Decompress data with a known decompressed length into the start of
+	 * a destination buffer, which may be larger than the data
+	 *
+	 * @param bytes compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param dest destination buffer
+	 * @param destLen decompressed length
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] dest, int destLen) throws IOException
+	{
+		try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes, off, len)))
+		{
+			ByteStreams.readFully(is, dest, 0, destLen);
+		}
+	}
 }
@@ -24,8 +24,8 @@
  */
 package net.runelite.cache.util;
 
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 public class Xtea
 {
@@ -42,13 +42,33 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		ByteBuf buf = Unpooled.wrappedBuffer(data, 0, len);
-		ByteBuf out = Unpooled.buffer(len);
+		byte[] out = Arrays.copyOf(data, len);
+		encrypt(out, 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = Arrays.copyOf(data, len);
+		decrypt(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypt data in place. Trailing bytes which do not make up a whole
+	 * block are left as is.
+	 *
+	 * @param data
+	 * @param off offset into data to start encrypting at
+	 * @param len length of data to encrypt
+	 */
+	public void encrypt(byte[] data, int off, int len)
+	{
 		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int block = 0, pos = off; block < numBlocks; ++block, pos += 8)
 		{
-			int v0 = buf.readInt();
-			int v1 = buf.readInt();
+			int v0 = getInt(data, pos);
+			int v1 = getInt(data, pos + 4);
 			int sum = 0;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -56,22 +76,88 @@ public class Xtea
 				sum += GOLDEN_RATIO;
 				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			putInt(data, pos, v0);
+			putInt(data, pos + 4, v1);
 		}
-		out.writeBytes(buf);
-		return out.array();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypt data in place. Trailing bytes which do not make up a whole
+	 * block are left as is.
+	 *
+	 * @param data
+	 * @param off offset into data to start decrypting at
+	 * @param len length of data to decrypt
+	 */
+	public void decrypt(byte[] data, int off, int len)
 	{
-		ByteBuf buf = Unpooled.wrappedBuffer(data, 0, len);
-		ByteBuf out = Unpooled.buffer(len);
 		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int block = 0, pos = off; block < numBlocks; ++block, pos += 8)
+		{
+			int v0 = getInt(data, pos);
+			int v1 = getInt(data, pos + 4);
+			int sum = GOLDEN_RATIO * ROUNDS;
+			for (int i = 0; i < ROUNDS; ++i)
+			{
+				v1 -= (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+				sum -= GOLDEN_RATIO;
+				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+			}
+			putInt(data, pos, v0);
+			putInt(data, pos + 4, v1);
+		}
+	}
+
+	/**
+	 * Encrypt the remaining bytes of a buffer in place. The position of
+	 * the buffer is not changed.
+	 *
+	 * @param buf
+	 */
+	public void encrypt(ByteBuffer buf)
+	{
+		if (buf.hasArray())
+		{
+			encrypt(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+			return;
+		}
+
+		final int end = buf.position() + buf.remaining() / 8 * 8;
+		for (int pos = buf.position(); pos < end; pos += 8)
+		{
+			int v0 = buf.getInt(pos);
+			int v1 = buf.getInt(pos + 4);
+			int sum = 0;
+			for (int i = 0; i < ROUNDS; ++i)
+			{
+				v0 += (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+				sum += GOLDEN_RATIO;
+				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+			}
+			buf.putInt(pos, v0);
+			buf.putInt(pos + 4, v1);
+		}
+	}
+
+	/**
+	 * Decrypt the remaining bytes of a buffer in place. The position of
+	 * the buffer is not changed.
+	 *
+	 * @param buf
+	 */
+	public void decrypt(ByteBuffer buf)
+	{
+		if (buf.hasArray())
+		{
+			decrypt(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+			return;
+		}
+
+		final int end = buf.position() + buf.remaining() / 8 * 8;
+		for (int pos = buf.position(); pos < end; pos += 8)
 		{
-			int v0 = buf.readInt();
-			int v1 = buf.readInt();
+			int v0 = buf.getInt(pos);
+			int v1 = buf.getInt(pos + 4);
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +165,24 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			buf.putInt(pos, v0);
+			buf.putInt(pos + 4, v1);
 		}
-		out.writeBytes(buf);
-		return out.array();
+	}
+
+	private static int getInt(byte[] data, int pos)
+	{
+		return ((data[pos] & 0xFF) << 24)
+			| ((data[pos + 1] & 0xFF) << 16)
+			| ((data[pos + 2] & 0xFF) << 8)
+			| (data[pos + 3] & 0xFF);
+	}
+
+	private static void putInt(byte[] data, int pos, int value)
+	{
+		data[pos] = (byte) (value >> 24);
+		data[pos + 1] = (byte) (value >> 16);
+		data[pos + 2] = (byte) (value >> 8);
+		data[pos + 3] = (byte) value;
 	}
 }
@@ -1,55 +1,108 @@
-/*
- * Copyright (c) 2016-2017, Adam <Adam@sigterm.info>
- * All rights reserved.
- *
- * Redistribution and use in source and binary forms, with or without
- * modification, are permitted provided that the following conditions are met:
- *
- * 1. Redistributions of source code must retain the above copyright notice, this
- *    list of conditions and the following disclaimer.
- * 2. Redistributions in binary form must reproduce the above copyright notice,
- *    this list of conditions and the following disclaimer in the documentation
- *    and/or other materials provided with the distribution.
- *
- * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
- * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
- * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
- * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
- * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
- * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
- * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
- * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
- * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
- * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
- */
-package net.runelite.cache.fs;
-
-import java.io.IOException;
-import java.util.Random;
-import static net.runelite.cache.fs.jagex.CompressionType.GZ;
-import static org.junit.Assert.assertArrayEquals;
-import org.junit.Test;
-
-public class ContainerTest
-{
-
-	@Test
-	public void testCompress() throws IOException
-	{
-		int[] keys = new int[]
-		{
-			4, 8, 15, 16
-		};
-		Random random = new Random(42L);
-		byte[] data = new byte[1024];
-		random.nextBytes(data);
-
-		Container container = new Container(GZ, -1);
-		container.compress(data, keys);
-		byte[] compressedData = container.data;
-
-		container = Container.decompress(compressedData, keys);
-		assertArrayEquals(data, container.data);
-	}
-
-}
+/*
+ * Copyright (c) 2016-2017, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
+import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ContainerTest
+{
+
+	@Test
+	public void testCompress() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		Container container = new Container(GZ, -1);
+		container.compress(data, keys);
+		byte[] compressedData = container.data;
+
+		container = Container.decompress(compressedData, keys);
+		assertArrayEquals(data, container.data);
+	}
+
+	@Test
+	public void testDecompressInPlace() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		Container container = new Container(BZ2, 42);
+		container.compress(data, keys);
+		byte[] compressedData = container.data;
+		byte[] copy = compressedData.clone();
+
+		Container container2 = Container.decompress(compressedData, keys);
+		assertArrayEquals(data, container2.data);
+		assertArrayEquals(copy, compressedData);
+
+		Container container3 = Container.decompressInPlace(compressedData, keys);
+		assertArrayEquals(data, container3.data);
+		assertEquals(container2.crc, container3.crc);
+		assertEquals(42, container3.revision);
+	}
+
+	@Test
+	public void testDecompressIntoBuffer() throws IOException
+	{
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+		byte[] buffer = new byte[4096];
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			Container container = new Container(compression, -1);
+			container.compress(data, null);
+
+			int length = Container.decompressInPlace(container.data, null, len ->
+			{
+				assertEquals(data.length, len);
+				return buffer;
+			});
+			assertEquals(data.length, length);
+			assertArrayEquals(data, Arrays.copyOf(buffer, length));
+			Arrays.fill(buffer, (byte) 0);
+		}
+	}
+}
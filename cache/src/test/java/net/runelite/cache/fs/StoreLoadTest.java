@@ -28,6 +28,7 @@ import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -47,6 +48,19 @@ public class StoreLoadTest
 		}
 	}
 
+	@Test
+	public void testLoadParallel() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION);
+			Store parallelStore = new Store(new DiskStorage(StoreLocation.LOCATION, true)))
+		{
+			store.load();
+			new ParallelStoreLoader(parallelStore).load();
+
+			Assert.assertEquals(store, parallelStore);
+		}
+	}
+
 	@Test
 	public void testSave() throws IOException
 	{
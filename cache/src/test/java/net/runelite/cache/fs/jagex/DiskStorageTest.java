@@ -99,4 +99,47 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testLoadMapped() throws Exception
+	{
+		File file = folder.newFolder();
+		DiskStorage storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0x1FFFF);
+
+			FileData[] fileData = new FileData[1];
+			archive.setFileData(fileData);
+			fileData[0] = new FileData();
+
+			byte[] data = new byte[2048];
+			for (int i = 0; i < data.length; ++i)
+			{
+				data[i] = (byte) i;
+			}
+
+			Container container = new Container(archive.getCompression(), -1);
+			container.compress(data, null);
+			storage.saveArchive(archive, container.data);
+
+			store.save();
+		}
+
+		storage = new DiskStorage(file, true);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			Index index = store.findIndex(0);
+			Archive archive = index.getArchive(0x1FFFF);
+
+			byte[] compressedData = storage.loadArchive(archive);
+			byte[] data = archive.decompress(compressedData);
+			assertEquals(2048, data.length);
+			for (int i = 0; i < data.length; ++i)
+			{
+				assertEquals((byte) i, data[i]);
+			}
+		}
+	}
 }
@@ -24,6 +24,8 @@
  */
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Test;
 
@@ -52,4 +54,34 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testInPlace()
+	{
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		byte[] encrypted = new byte[]
+		{
+			121, -18, 48, 64, 120, -42, -113, 77, 116, 101, 115, 116, 49
+		};
+
+		Xtea xtea = new Xtea(key);
+		byte[] data = "__testtesttest1".getBytes();
+		xtea.encrypt(data, 2, data.length - 2);
+		assertArrayEquals(encrypted, Arrays.copyOfRange(data, 2, data.length));
+
+		xtea.decrypt(data, 2, data.length - 2);
+		assertArrayEquals("__testtesttest1".getBytes(), data);
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(encrypted.length);
+		buffer.put(encrypted);
+		buffer.flip();
+		xtea.decrypt(buffer);
+
+		byte[] decrypted = new byte[buffer.remaining()];
+		buffer.get(decrypted);
+		assertArrayEquals("testtesttest1".getBytes(), decrypted);
+	}
 }
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.http.service.cache.beans.ArchiveCacheStats;
+
+/**
+ * Two tier cache of archive data, keyed by the sha256 hash of the
+ * archive, and of the decoded files of archives, keyed by archive id.
+ * Archives are immutable, so entries are never invalidated.
+ * <p>
+ * The disk tier is optional and is bounded by total size, evicting the
+ * least recently used archives. Files are checked against their hash when
+ * read, and files which don't match are deleted.
+ */
+@Slf4j
+class ArchiveCache
+{
+	private static final long MAX_ARCHIVE_WEIGHT = 64 * 1024 * 1024;
+	private static final long MAX_FILES_WEIGHT = 128 * 1024 * 1024;
+
+	private static final String TMP_SUFFIX = ".tmp";
+
+	private final Cache<String, byte[]> archives = CacheBuilder.newBuilder()
+		.maximumWeight(MAX_ARCHIVE_WEIGHT)
+		.weigher((String k, byte[] v) -> v.length)
+		.recordStats()
+		.build();
+
+	private final Cache<Integer, ArchiveFiles> archiveFiles = CacheBuilder.newBuilder()
+		.maximumWeight(MAX_FILES_WEIGHT)
+		.weigher((Integer k, ArchiveFiles v) -> weigh(v))
+		.recordStats()
+		.build();
+
+	private final File directory;
+	private final long maxDiskSize;
+
+	// sizes of the archives on disk, least recently used first
+	private final LinkedHashMap<String, Long> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+	private long diskSize;
+
+	private final AtomicLong diskHits = new AtomicLong();
+	private final AtomicLong diskMisses = new AtomicLong();
+
+	/**
+	 * @param directory directory of the disk tier, or null to cache only in memory
+	 * @param maxDiskSize maximum number of bytes of archives kept on disk
+	 */
+	ArchiveCache(File directory, long maxDiskSize)
+	{
+		this.directory = directory;
+		this.maxDiskSize = maxDiskSize;
+
+		if (directory != null)
+		{
+			loadDiskEntries();
+		}
+	}
+
+	/**
+	 * Look up archive data from memory, and then from disk
+	 *
+	 * @param hash sha256 hash of the archive
+	 * @return archive data, or null if it is not cached
+	 */
+	byte[] getArchive(byte[] hash)
+	{
+		String hashStr = BaseEncoding.base16().encode(hash);
+
+		byte[] data = archives.getIfPresent(hashStr);
+		if (data != null || directory == null)
+		{
+			return data;
+		}
+
+		Path path = path(hashStr);
+		try
+		{
+			data = Files.readAllBytes(path);
+		}
+		catch (NoSuchFileException ex)
+		{
+			diskMisses.incrementAndGet();
+			return null;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to read cached archive {}", path, ex);
+			diskMisses.incrementAndGet();
+			return null;
+		}
+
+		if (!Arrays.equals(hash, Hashing.sha256().hashBytes(data).asBytes()))
+		{
+			log.warn("cached archive {} does not match its hash, deleting it", path);
+			removeDiskEntry(hashStr);
+			delete(path);
+			diskMisses.incrementAndGet();
+			return null;
+		}
+
+		diskHits.incrementAndGet();
+		touchDiskEntry(hashStr, path);
+		archives.put(hashStr, data);
+		return data;
+	}
+
+	void putArchive(byte[] hash, byte[] data)
+	{
+		String hashStr = BaseEncoding.base16().encode(hash);
+		archives.put(hashStr, data);
+
+		if (directory == null || data.length > maxDiskSize)
+		{
+			return;
+		}
+
+		Path path = path(hashStr);
+		Path tmp = null;
+		try
+		{
+			Files.createDirectories(path.getParent());
+
+			// write to a temporary file first so that partially written
+			// archives are never visible
+			tmp = Files.createTempFile(path.getParent(), hashStr, TMP_SUFFIX);
+			Files.write(tmp, data);
+			Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			tmp = null;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write cached archive {}", path, ex);
+			return;
+		}
+		finally
+		{
+			if (tmp != null)
+			{
+				delete(tmp);
+			}
+		}
+
+		addDiskEntry(hashStr, data.length);
+	}
+
+	ArchiveFiles getArchiveFiles(int archiveId)
+	{
+		return archiveFiles.getIfPresent(archiveId);
+	}
+
+	void putArchiveFiles(int archiveId, ArchiveFiles files)
+	{
+		archiveFiles.put(archiveId, files);
+	}
+
+	ArchiveCacheStats stats()
+	{
+		ArchiveCacheStats stats = new ArchiveCacheStats();
+		stats.setArchiveHits(archives.stats().hitCount());
+		stats.setArchiveMisses(archives.stats().missCount());
+		stats.setArchiveCount(archives.size());
+		stats.setDiskHits(diskHits.get());
+		stats.setDiskMisses(diskMisses.get());
+		stats.setDiskSize(getDiskSize());
+		stats.setArchiveFilesHits(archiveFiles.stats().hitCount());
+		stats.setArchiveFilesMisses(archiveFiles.stats().missCount());
+		stats.setArchiveFilesCount(archiveFiles.size());
+		return stats;
+	}
+
+	synchronized long getDiskSize()
+	{
+		return diskSize;
+	}
+
+	/**
+	 * Index the archives already on disk, oldest first, removing temporary
+	 * files left by writes which did not complete
+	 */
+	private void loadDiskEntries()
+	{
+		if (!directory.isDirectory())
+		{
+			return;
+		}
+
+		List<Path> paths = new ArrayList<>();
+		try (Stream<Path> stream = Files.walk(directory.toPath(), 2))
+		{
+			stream.filter(Files::isRegularFile).forEach(paths::add);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to list cached archives in {}", directory, ex);
+			return;
+		}
+
+		Map<Path, FileTime> times = new LinkedHashMap<>();
+		for (Path path : paths)
+		{
+			if (path.getFileName().toString().endsWith(TMP_SUFFIX))
+			{
+				delete(path);
+				continue;
+			}
+
+			try
+			{
+				times.put(path, Files.getLastModifiedTime(path));
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to read cached archive {}", path, ex);
+			}
+		}
+
+		times.entrySet().stream()
+			.sorted(Map.Entry.comparingByValue())
+			.forEach(e ->
+			{
+				Path path = e.getKey();
+				String hashStr = path.getParent().getFileName().toString() + path.getFileName().toString();
+				try
+				{
+					addDiskEntry(hashStr, Files.size(path));
+				}
+				catch (IOException ex)
+				{
+					log.warn("unable to read cached archive {}", path, ex);
+				}
+			});
+	}
+
+	private void addDiskEntry(String hashStr, long size)
+	{
+		List<String> evicted = new ArrayList<>();
+
+		synchronized (this)
+		{
+			Long old = diskEntries.put(hashStr, size);
+			diskSize += size - (old != null ? old : 0L);
+
+			Iterator<Map.Entry<String, Long>> it = diskEntries.entrySet().iterator();
+			while (diskSize > maxDiskSize && it.hasNext())
+			{
+				Map.Entry<String, Long> eldest = it.next();
+				it.remove();
+				diskSize -= eldest.getValue();
+				evicted.add(eldest.getKey());
+			}
+		}
+
+		for (String evict : evicted)
+		{
+			delete(path(evict));
+		}
+	}
+
+	private synchronized void removeDiskEntry(String hashStr)
+	{
+		Long size = diskEntries.remove(hashStr);
+		if (size != null)
+		{
+			diskSize -= size;
+		}
+	}
+
+	private void touchDiskEntry(String hashStr, Path path)
+	{
+		synchronized (this)
+		{
+			diskEntries.get(hashStr);
+		}
+
+		// so the order survives a restart
+		try
+		{
+			Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to touch cached archive {}", path, ex);
+		}
+	}
+
+	private Path path(String hashStr)
+	{
+		// same layout as the object store
+		return directory.toPath()
+			.resolve(hashStr.substring(0, 2))
+			.resolve(hashStr.substring(2));
+	}
+
+	private static void delete(Path path)
+	{
+		try
+		{
+			Files.deleteIfExists(path);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to delete cached archive {}", path, ex);
+		}
+	}
+
+	private static int weigh(ArchiveFiles files)
+	{
+		int weight = 0;
+		for (FSFile file : files.getFiles())
+		{
+			byte[] contents = file.getContents();
+			weight += contents != null ? contents.length : 0;
+		}
+		return weight;
+	}
+}
@@ -56,6 +56,7 @@ import net.runelite.cache.item.ItemSpriteFactory;
 import net.runelite.http.api.cache.Cache;
 import net.runelite.http.api.cache.CacheArchive;
 import net.runelite.http.api.cache.CacheIndex;
+import net.runelite.http.service.cache.beans.ArchiveCacheStats;
 import net.runelite.http.service.cache.beans.ArchiveEntry;
 import net.runelite.http.service.cache.beans.CacheEntry;
 import net.runelite.http.service.cache.beans.IndexEntry;
@@ -83,6 +84,12 @@ public class CacheController
 			.collect(Collectors.toList());
 	}
 
+	@RequestMapping("stats")
+	public ArchiveCacheStats archiveCacheStats()
+	{
+		return cacheService.getArchiveCacheStats();
+	}
+
 	@RequestMapping("{cacheId}")
 	public List<CacheIndex> listIndexes(@PathVariable int cacheId)
 	{
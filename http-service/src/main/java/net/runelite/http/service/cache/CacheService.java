@@ -36,6 +36,7 @@ import io.minio.errors.InvalidBucketNameException;
 import io.minio.errors.InvalidEndpointException;
 import io.minio.errors.InvalidPortException;
 import io.minio.errors.NoResponseException;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.InvalidKeyException;
@@ -50,6 +51,7 @@ import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.FSFile;
+import net.runelite.http.service.cache.beans.ArchiveCacheStats;
 import net.runelite.http.service.cache.beans.ArchiveEntry;
 import net.runelite.http.service.cache.beans.CacheEntry;
 import net.runelite.http.service.cache.beans.FileEntry;
@@ -58,6 +60,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
 import org.sql2o.ResultSetIterable;
@@ -76,15 +79,27 @@ public class CacheService
 	private String minioBucket;
 
 	private final MinioClient minioClient;
+	private final ArchiveCache archiveCache;
+
+	// index and archive tables of the most recent cache
+	private volatile CacheSnapshot snapshot;
 
 	@Autowired
 	public CacheService(
 		@Value("${minio.endpoint}") String minioEndpoint,
 		@Value("${minio.accesskey}") String accessKey,
-		@Value("${minio.secretkey}") String secretKey
+		@Value("${minio.secretkey}") String secretKey,
+		@Value("${cache.archive.directory:}") String archiveDirectory,
+		@Value("${cache.archive.maxsize:1073741824}") long archiveMaxSize
 	) throws InvalidEndpointException, InvalidPortException
 	{
 		this.minioClient = new MinioClient(minioEndpoint, accessKey, secretKey);
+
+		if (archiveDirectory.isEmpty())
+		{
+			log.info("cache.archive.directory is not set, archives are only cached in memory");
+		}
+		this.archiveCache = new ArchiveCache(archiveDirectory.isEmpty() ? null : new File(archiveDirectory), archiveMaxSize);
 	}
 
 	@Bean
@@ -101,6 +116,12 @@ public class CacheService
 	 */
 	public byte[] getArchive(ArchiveEntry archiveEntry)
 	{
+		byte[] data = archiveCache.getArchive(archiveEntry.getHash());
+		if (data != null)
+		{
+			return data;
+		}
+
 		String hashStr = BaseEncoding.base16().encode(archiveEntry.getHash());
 		String path = new StringBuilder()
 			.append(hashStr.substring(0, 2))
@@ -110,7 +131,7 @@ public class CacheService
 
 		try (InputStream in = minioClient.getObject(minioBucket, path))
 		{
-			return ByteStreams.toByteArray(in);
+			data = ByteStreams.toByteArray(in);
 		}
 		catch (InvalidBucketNameException | NoSuchAlgorithmException | InsufficientDataException
 			| IOException | InvalidKeyException | NoResponseException | XmlPullParserException
@@ -119,10 +140,19 @@ public class CacheService
 			log.warn(null, ex);
 			return null;
 		}
+
+		archiveCache.putArchive(archiveEntry.getHash(), data);
+		return data;
 	}
 
 	public ArchiveFiles getArchiveFiles(ArchiveEntry archiveEntry) throws IOException
 	{
+		ArchiveFiles archiveFiles = archiveCache.getArchiveFiles(archiveEntry.getId());
+		if (archiveFiles != null)
+		{
+			return archiveFiles;
+		}
+
 		CacheDAO cacheDao = new CacheDAO();
 
 		try (Connection con = sql2o.open();
@@ -143,7 +173,7 @@ public class CacheService
 
 			byte[] decompressedData = result.data;
 
-			ArchiveFiles archiveFiles = new ArchiveFiles();
+			archiveFiles = new ArchiveFiles();
 			for (FileEntry fileEntry : files)
 			{
 				FSFile file = new FSFile(fileEntry.getFileId());
@@ -151,10 +181,17 @@ public class CacheService
 				file.setNameHash(fileEntry.getNameHash());
 			}
 			archiveFiles.loadContents(decompressedData);
+
+			archiveCache.putArchiveFiles(archiveEntry.getId(), archiveFiles);
 			return archiveFiles;
 		}
 	}
 
+	public ArchiveCacheStats getArchiveCacheStats()
+	{
+		return archiveCache.stats();
+	}
+
 	public List<CacheEntry> listCaches()
 	{
 		try (Connection con = sql2o.open())
@@ -173,17 +210,58 @@ public class CacheService
 		}
 	}
 
-	public CacheEntry findMostRecent()
+	/**
+	 * Rebuild the snapshot of the most recent cache if a newer cache
+	 * has been added
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public synchronized void refreshSnapshot()
 	{
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
-			return cacheDao.findMostRecent(con);
+			CacheEntry mostRecent = cacheDao.findMostRecent(con);
+			if (mostRecent == null)
+			{
+				return;
+			}
+
+			CacheSnapshot current = snapshot;
+			if (current != null && current.contains(mostRecent))
+			{
+				return;
+			}
+
+			snapshot = CacheSnapshot.load(con, cacheDao, mostRecent);
+			log.info("Loaded snapshot of cache {} (revision {})", mostRecent.getId(), mostRecent.getRevision());
 		}
 	}
 
+	private CacheSnapshot getSnapshot()
+	{
+		CacheSnapshot s = snapshot;
+		if (s == null)
+		{
+			refreshSnapshot();
+			s = snapshot;
+		}
+		return s;
+	}
+
+	public CacheEntry findMostRecent()
+	{
+		CacheSnapshot s = getSnapshot();
+		return s != null ? s.getCache() : null;
+	}
+
 	public List<IndexEntry> findIndexesForCache(CacheEntry cacheEntry)
 	{
+		CacheSnapshot s = getSnapshot();
+		if (s != null && s.contains(cacheEntry))
+		{
+			return s.getIndexes();
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -193,6 +271,12 @@ public class CacheService
 
 	public IndexEntry findIndexForCache(CacheEntry cahceEntry, int indexId)
 	{
+		CacheSnapshot s = getSnapshot();
+		if (s != null && s.contains(cahceEntry))
+		{
+			return s.findIndex(indexId);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -202,6 +286,12 @@ public class CacheService
 
 	public List<ArchiveEntry> findArchivesForIndex(IndexEntry indexEntry)
 	{
+		CacheSnapshot s = getSnapshot();
+		if (s != null && s.contains(indexEntry))
+		{
+			return s.getArchives(indexEntry);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -214,6 +304,12 @@ public class CacheService
 
 	public ArchiveEntry findArchiveForIndex(IndexEntry indexEntry, int archiveId)
 	{
+		CacheSnapshot s = getSnapshot();
+		if (s != null && s.contains(indexEntry))
+		{
+			return s.findArchive(indexEntry, archiveId);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -223,6 +319,12 @@ public class CacheService
 
 	public ArchiveEntry findArchiveForTypeAndName(CacheEntry cache, IndexType index, int nameHash)
 	{
+		CacheSnapshot s = getSnapshot();
+		if (s != null && s.contains(cache))
+		{
+			return s.findArchiveByName(index.getNumber(), nameHash);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
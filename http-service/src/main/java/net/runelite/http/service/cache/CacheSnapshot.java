@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.http.service.cache.beans.ArchiveEntry;
+import net.runelite.http.service.cache.beans.CacheEntry;
+import net.runelite.http.service.cache.beans.IndexEntry;
+import org.sql2o.Connection;
+import org.sql2o.ResultSetIterable;
+
+/**
+ * Immutable copy of the index and archive tables of a single cache
+ */
+class CacheSnapshot
+{
+	private static class IndexSnapshot
+	{
+		private final IndexEntry index;
+		private final List<ArchiveEntry> archives = new ArrayList<>();
+		private final Map<Integer, ArchiveEntry> archivesById = new HashMap<>();
+		private final Map<Integer, ArchiveEntry> archivesByName = new HashMap<>();
+
+		IndexSnapshot(IndexEntry index)
+		{
+			this.index = index;
+		}
+	}
+
+	private final CacheEntry cache;
+	private final List<IndexEntry> indexes;
+	private final Map<Integer, IndexSnapshot> indexesByIndexId = new HashMap<>();
+	private final Map<Integer, IndexSnapshot> indexesById = new HashMap<>();
+
+	private CacheSnapshot(CacheEntry cache, List<IndexEntry> indexes)
+	{
+		this.cache = cache;
+		this.indexes = Collections.unmodifiableList(indexes);
+	}
+
+	static CacheSnapshot load(Connection con, CacheDAO cacheDao, CacheEntry cache)
+	{
+		List<IndexEntry> indexes = cacheDao.findIndexesForCache(con, cache);
+		CacheSnapshot snapshot = new CacheSnapshot(cache, indexes);
+
+		for (IndexEntry indexEntry : indexes)
+		{
+			IndexSnapshot index = new IndexSnapshot(indexEntry);
+
+			try (ResultSetIterable<ArchiveEntry> archives = cacheDao.findArchivesForIndex(con, indexEntry))
+			{
+				for (ArchiveEntry archive : archives)
+				{
+					index.archives.add(archive);
+					index.archivesById.putIfAbsent(archive.getArchiveId(), archive);
+					if (archive.getNameHash() != 0)
+					{
+						index.archivesByName.putIfAbsent(archive.getNameHash(), archive);
+					}
+				}
+			}
+
+			snapshot.indexesByIndexId.put(indexEntry.getIndexId(), index);
+			snapshot.indexesById.put(indexEntry.getId(), index);
+		}
+
+		return snapshot;
+	}
+
+	CacheEntry getCache()
+	{
+		return cache;
+	}
+
+	boolean contains(CacheEntry cacheEntry)
+	{
+		return cacheEntry.getId() == cache.getId();
+	}
+
+	boolean contains(IndexEntry indexEntry)
+	{
+		return indexesById.containsKey(indexEntry.getId());
+	}
+
+	List<IndexEntry> getIndexes()
+	{
+		return indexes;
+	}
+
+	IndexEntry findIndex(int indexId)
+	{
+		IndexSnapshot index = indexesByIndexId.get(indexId);
+		return index != null ? index.index : null;
+	}
+
+	List<ArchiveEntry> getArchives(IndexEntry indexEntry)
+	{
+		IndexSnapshot index = indexesById.get(indexEntry.getId());
+		return index != null ? Collections.unmodifiableList(index.archives) : Collections.emptyList();
+	}
+
+	ArchiveEntry findArchive(IndexEntry indexEntry, int archiveId)
+	{
+		IndexSnapshot index = indexesById.get(indexEntry.getId());
+		return index != null ? index.archivesById.get(archiveId) : null;
+	}
+
+	ArchiveEntry findArchiveByName(int indexId, int nameHash)
+	{
+		IndexSnapshot index = indexesByIndexId.get(indexId);
+		return index != null ? index.archivesByName.get(nameHash) : null;
+	}
+}
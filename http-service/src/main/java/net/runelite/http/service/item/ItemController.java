@@ -24,10 +24,11 @@
  */
 package net.runelite.http.service.item;
 
-import com.google.common.base.Supplier;
-import com.google.common.base.Suppliers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
@@ -40,8 +41,11 @@ import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.SearchResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -59,27 +63,30 @@ public class ItemController
 		.build();
 
 	private final ItemService itemService;
+	private final ObjectMapper objectMapper;
 
-	private final Supplier<ItemPrice[]> memorizedPrices;
+	// serialized response of /prices, rebuilt when the prices change
+	private volatile PricesBody pricesBody;
 
-	@Autowired
-	public ItemController(ItemService itemService)
+	private static class PricesBody
 	{
-		this.itemService = itemService;
+		private final int version;
+		private final byte[] body;
+		private final String etag;
 
-		memorizedPrices = Suppliers.memoizeWithExpiration(() -> itemService.fetchPrices().stream()
-			.map(priceEntry ->
-			{
-				Item item = new Item();
-				item.setId(priceEntry.getItem()); // fake item
+		PricesBody(int version, byte[] body)
+		{
+			this.version = version;
+			this.body = body;
+			this.etag = '"' + Hashing.sha256().hashBytes(body).toString().substring(0, 32) + '"';
+		}
+	}
 
-				ItemPrice itemPrice = new ItemPrice();
-				itemPrice.setItem(item);
-				itemPrice.setPrice(priceEntry.getPrice());
-				itemPrice.setTime(priceEntry.getTime());
-				return itemPrice;
-			})
-			.toArray(ItemPrice[]::new), 30, TimeUnit.MINUTES);
+	@Autowired
+	public ItemController(ItemService itemService, ObjectMapper objectMapper)
+	{
+		this.itemService = itemService;
+		this.objectMapper = objectMapper;
 	}
 
 	@RequestMapping("/{itemId}")
@@ -153,6 +160,12 @@ public class ItemController
 
 		PriceEntry priceEntry = itemService.getPrice(itemId, time);
 
+		if (time == null)
+		{
+			// fetch the price ahead of the crawl if it is missing or stale
+			itemService.queuePrice(itemId);
+		}
+
 		if (time != null)
 		{
 			if (priceEntry == null)
@@ -182,6 +195,12 @@ public class ItemController
 			.body(itemPrice);
 	}
 
+	@RequestMapping("/crawler")
+	public CrawlerStats crawlerStats()
+	{
+		return itemService.getCrawlerStats();
+	}
+
 	@RequestMapping("/search")
 	public SearchResult search(@RequestParam String query)
 	{
@@ -222,10 +241,59 @@ public class ItemController
 	}
 
 	@RequestMapping("/prices")
-	public ResponseEntity<ItemPrice[]> prices()
+	public ResponseEntity<byte[]> prices(@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) throws JsonProcessingException
 	{
+		PricesBody prices = getPricesBody();
+
+		if (prices.etag.equals(ifNoneMatch))
+		{
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(prices.etag)
+				.cacheControl(CacheControl.maxAge(30, TimeUnit.MINUTES).cachePublic())
+				.build();
+		}
+
 		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON_UTF8)
+			.eTag(prices.etag)
 			.cacheControl(CacheControl.maxAge(30, TimeUnit.MINUTES).cachePublic())
-			.body(memorizedPrices.get());
+			.body(prices.body);
+	}
+
+	private PricesBody getPricesBody() throws JsonProcessingException
+	{
+		int version = itemService.getPricesVersion();
+		PricesBody prices = pricesBody;
+		if (prices != null && prices.version == version)
+		{
+			return prices;
+		}
+
+		synchronized (this)
+		{
+			prices = pricesBody;
+			if (prices != null && prices.version == version)
+			{
+				return prices;
+			}
+
+			ItemPrice[] itemPrices = itemService.getPrices().stream()
+				.map(priceEntry ->
+				{
+					Item item = new Item();
+					item.setId(priceEntry.getItem()); // fake item
+
+					ItemPrice itemPrice = new ItemPrice();
+					itemPrice.setItem(item);
+					itemPrice.setPrice(priceEntry.getPrice());
+					itemPrice.setTime(priceEntry.getTime());
+					return itemPrice;
+				})
+				.toArray(ItemPrice[]::new);
+
+			prices = new PricesBody(version, objectMapper.writeValueAsBytes(itemPrices));
+			pricesBody = prices;
+			return prices;
+		}
 	}
 }
@@ -28,14 +28,20 @@ import com.google.gson.JsonParseException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.http.api.RuneLiteAPI;
@@ -46,6 +52,7 @@ import okhttp3.Request;
 import okhttp3.Response;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
@@ -84,19 +91,36 @@ public class ItemService
 
 	private static final int MAX_PENDING = 512;
 
+	// rate limit tokens the price crawler leaves for user lookups
+	private static final int RESERVED_LOOKUP_TOKENS = 10;
+
+	// prices fetched longer ago than this are recrawled
+	private static final Duration PRICE_MAX_AGE = Duration.ofHours(6);
+
 	private final Sql2o sql2o;
 	private final CacheService cacheService;
 
+	private final PriceTable priceTable = new PriceTable();
+	private volatile boolean pricesLoaded;
+
 	private final ConcurrentLinkedQueue<PendingLookup> pendingLookups = new ConcurrentLinkedQueue<PendingLookup>();
-	private int[] tradeableItems;
-	private final Random random = new Random();
+	private final AtomicLong droppedLookups = new AtomicLong();
+	private volatile int[] tradeableItems; // sorted
+
+	// shared by all requests to the item database
+	private final TokenBucket rateLimiter;
+	private final PriceCrawler priceCrawler;
 
 	@Autowired
 	public ItemService(@Qualifier("Runelite SQL2O") Sql2o sql2o,
-		CacheService cacheService)
+		CacheService cacheService,
+		@Value("${item.crawler.threads:4}") int crawlerThreads,
+		@Value("${item.crawler.rate:1}") double crawlerRate)
 	{
 		this.sql2o = sql2o;
 		this.cacheService = cacheService;
+		this.rateLimiter = new TokenBucket(crawlerThreads + RESERVED_LOOKUP_TOKENS, crawlerRate);
+		this.priceCrawler = new PriceCrawler(this, rateLimiter, RESERVED_LOOKUP_TOKENS, crawlerThreads);
 
 		try (Connection con = sql2o.open())
 		{
@@ -108,6 +132,18 @@ public class ItemService
 		}
 	}
 
+	@PostConstruct
+	public void start()
+	{
+		priceCrawler.start();
+	}
+
+	@PreDestroy
+	public void stop()
+	{
+		priceCrawler.stop();
+	}
+
 	public ItemEntry getItem(int itemId)
 	{
 		try (Connection con = sql2o.open())
@@ -139,6 +175,11 @@ public class ItemService
 
 	public PriceEntry getPrice(int itemId, Instant time)
 	{
+		if (time == null)
+		{
+			return getPriceTable().get(itemId);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			return getPrice(con, itemId, time);
@@ -147,30 +188,77 @@ public class ItemService
 
 	public List<PriceEntry> getPrices(int... itemIds)
 	{
-		try (Connection con = sql2o.open())
+		PriceTable table = getPriceTable();
+		Set<Integer> seen = new HashSet<>();
+		List<PriceEntry> priceEntries = new ArrayList<>(itemIds.length);
+
+		for (int itemId : itemIds)
 		{
-			Set<Integer> seen = new HashSet<>();
-			List<PriceEntry> priceEntries = new ArrayList<>(itemIds.length);
+			if (!seen.add(itemId))
+			{
+				continue;
+			}
 
-			for (int itemId : itemIds)
+			PriceEntry priceEntry = table.get(itemId);
+
+			if (priceEntry == null)
 			{
-				if (seen.contains(itemId))
-				{
-					continue;
-				}
-				seen.add(itemId);
+				continue;
+			}
 
-				PriceEntry priceEntry = getPrice(con, itemId, null);
+			priceEntries.add(priceEntry);
+		}
 
-				if (priceEntry == null)
-				{
-					continue;
-				}
+		return priceEntries;
+	}
 
-				priceEntries.add(priceEntry);
-			}
+	/**
+	 * @return the latest price of every item
+	 */
+	public List<PriceEntry> getPrices()
+	{
+		return getPriceTable().getAll();
+	}
 
-			return priceEntries;
+	/**
+	 * @return a counter which changes each time changes to the latest prices are published
+	 */
+	public int getPricesVersion()
+	{
+		return getPriceTable().getVersion();
+	}
+
+	private PriceTable getPriceTable()
+	{
+		if (!pricesLoaded)
+		{
+			reloadPrices();
+		}
+		return priceTable;
+	}
+
+	/**
+	 * Reload the latest prices from the database, to pick up prices
+	 * inserted by other instances
+	 */
+	@Scheduled(fixedDelay = 1_800_000) // 30 minutes
+	public synchronized void reloadPrices()
+	{
+		priceTable.replace(fetchPrices());
+		pricesLoaded = true;
+		log.debug("Loaded latest prices");
+	}
+
+	/**
+	 * Publish price updates made since the last publish. Updates are
+	 * batched so the serialized prices aren't rebuilt on every update.
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public void publishPrices()
+	{
+		if (priceTable.publish())
+		{
+			log.debug("Published updated prices");
 		}
 	}
 
@@ -242,6 +330,23 @@ public class ItemService
 	}
 
 	public List<PriceEntry> fetchPrice(int itemId)
+	{
+		List<PriceEntry> entries = fetchRSPriceEntries(itemId);
+		if (entries != null)
+		{
+			savePrices(entries);
+		}
+		return entries;
+	}
+
+	/**
+	 * Fetch the price history of an item from the item database, without
+	 * storing it
+	 *
+	 * @param itemId
+	 * @return price entries, or null on error
+	 */
+	List<PriceEntry> fetchRSPriceEntries(int itemId)
 	{
 		RSPrices rsprice;
 		try
@@ -254,41 +359,63 @@ public class ItemService
 			return null;
 		}
 
-		try (Connection con = sql2o.beginTransaction())
+		List<PriceEntry> entries = new ArrayList<>();
+		Instant now = Instant.now();
+
+		for (Map.Entry<Long, Integer> entry : rsprice.getDaily().entrySet())
 		{
-			List<PriceEntry> entries = new ArrayList<>();
-			Instant now = Instant.now();
+			long ts = entry.getKey(); // ms since epoch
+			int price = entry.getValue(); // gp
+
+			PriceEntry priceEntry = new PriceEntry();
+			priceEntry.setItem(itemId);
+			priceEntry.setPrice(price);
+			priceEntry.setTime(Instant.ofEpochMilli(ts));
+			priceEntry.setFetched_time(now);
+			entries.add(priceEntry);
+		}
+
+		return entries;
+	}
 
+	/**
+	 * Store price entries, of any number of items, with a single batch
+	 *
+	 * @param entries
+	 */
+	void savePrices(List<PriceEntry> entries)
+	{
+		if (entries.isEmpty())
+		{
+			return;
+		}
+
+		try (Connection con = sql2o.beginTransaction())
+		{
 			Query query = con.createQuery("insert into prices (item, price, time, fetched_time) values (:item, :price, :time, :fetched_time) "
 				+ "ON DUPLICATE KEY UPDATE price = VALUES(price), fetched_time = VALUES(fetched_time)");
 
-			for (Map.Entry<Long, Integer> entry : rsprice.getDaily().entrySet())
+			for (PriceEntry entry : entries)
 			{
-				long ts = entry.getKey(); // ms since epoch
-				int price = entry.getValue(); // gp
-
-				Instant time = Instant.ofEpochMilli(ts);
-
-				PriceEntry priceEntry = new PriceEntry();
-				priceEntry.setItem(itemId);
-				priceEntry.setPrice(price);
-				priceEntry.setTime(time);
-				priceEntry.setFetched_time(now);
-				entries.add(priceEntry);
-
 				query
-					.addParameter("item", itemId)
-					.addParameter("price", price)
-					.addParameter("time", time)
-					.addParameter("fetched_time", now)
+					.addParameter("item", entry.getItem())
+					.addParameter("price", entry.getPrice())
+					.addParameter("time", entry.getTime())
+					.addParameter("fetched_time", entry.getFetched_time())
 					.addToBatch();
 			}
 
 			query.executeBatch();
 			con.commit(false);
+		}
 
-			return entries;
+		// update the latest price of each item
+		Map<Integer, PriceEntry> latest = new HashMap<>();
+		for (PriceEntry entry : entries)
+		{
+			latest.merge(entry.getItem(), entry, (a, b) -> a.getTime().isAfter(b.getTime()) ? a : b);
 		}
+		latest.values().forEach(priceTable::update);
 	}
 
 	public List<PriceEntry> fetchPrices()
@@ -415,6 +542,7 @@ public class ItemService
 		}
 		else
 		{
+			droppedLookups.incrementAndGet();
 			log.debug("Dropping pending search for {}", search);
 		}
 	}
@@ -427,19 +555,56 @@ public class ItemService
 		}
 		else
 		{
+			droppedLookups.incrementAndGet();
 			log.debug("Dropping pending item lookup for {}", itemId);
 		}
 	}
 
+	/**
+	 * Queue a price lookup for an item requested by a user, ahead of the
+	 * crawl, if its price is missing or stale
+	 *
+	 * @param itemId
+	 */
+	public void queuePrice(int itemId)
+	{
+		int[] tradeable = tradeableItems;
+		if (tradeable != null && Arrays.binarySearch(tradeable, itemId) < 0)
+		{
+			return;
+		}
+
+		Instant lastFetched = lastFetched(itemId);
+		if (lastFetched.isBefore(Instant.now().minus(PRICE_MAX_AGE)))
+		{
+			priceCrawler.queue(itemId, true, lastFetched);
+		}
+	}
+
+	private Instant lastFetched(int itemId)
+	{
+		PriceEntry entry = getPriceTable().get(itemId);
+		return entry != null && entry.getFetched_time() != null ? entry.getFetched_time() : Instant.EPOCH;
+	}
+
 	@Scheduled(fixedDelay = 5000)
 	public void check()
 	{
-		PendingLookup pendingLookup = pendingLookups.poll();
-		if (pendingLookup == null)
+		// drain as many lookups as the rate limit allows
+		while (!pendingLookups.isEmpty() && rateLimiter.tryAcquire())
 		{
-			return;
+			PendingLookup pendingLookup = pendingLookups.poll();
+			if (pendingLookup == null)
+			{
+				return;
+			}
+
+			lookup(pendingLookup);
 		}
+	}
 
+	private void lookup(PendingLookup pendingLookup)
+	{
 		switch (pendingLookup.getType())
 		{
 			case SEARCH:
@@ -460,20 +625,68 @@ public class ItemService
 		}
 	}
 
-	@Scheduled(fixedDelay = 20_000)
+	@Scheduled(fixedDelay = 60_000)
 	public void crawlPrices()
 	{
-		if (tradeableItems == null || tradeableItems.length == 0)
+		priceCrawler.flush();
+
+		int[] tradeable = tradeableItems;
+		if (tradeable == null || tradeable.length == 0)
 		{
 			return;
 		}
 
-		int idx = random.nextInt(tradeableItems.length);
-		int id = tradeableItems[idx];
+		Instant staleTime = Instant.now().minus(PRICE_MAX_AGE);
+		int queued = 0;
 
-		log.debug("Fetching price for {}", id);
+		for (int id : tradeable)
+		{
+			Instant lastFetched = lastFetched(id);
+			if (lastFetched.isBefore(staleTime))
+			{
+				priceCrawler.queue(id, false, lastFetched);
+				++queued;
+			}
+		}
+
+		log.debug("{} items have stale prices, queue depth {}", queued, priceCrawler.getQueueDepth());
+	}
+
+	public CrawlerStats getCrawlerStats()
+	{
+		CrawlerStats stats = new CrawlerStats();
+		stats.setQueueDepth(priceCrawler.getQueueDepth());
+		stats.setPendingLookups(pendingLookups.size());
+		stats.setDroppedLookups(droppedLookups.get());
+		stats.setFetched(priceCrawler.getFetched());
+		stats.setFailed(priceCrawler.getFailed());
+
+		int[] tradeable = tradeableItems;
+		if (tradeable != null)
+		{
+			Instant staleTime = Instant.now().minus(PRICE_MAX_AGE);
+			Instant oldest = null;
+			int stale = 0;
+
+			for (int id : tradeable)
+			{
+				Instant lastFetched = lastFetched(id);
+				if (lastFetched.isBefore(staleTime))
+				{
+					++stale;
+				}
+				if (oldest == null || lastFetched.isBefore(oldest))
+				{
+					oldest = lastFetched;
+				}
+			}
+
+			stats.setTradeableItems(tradeable.length);
+			stats.setStaleItems(stale);
+			stats.setOldestFetch(oldest);
+		}
 
-		fetchPrice(id);
+		return stats;
 	}
 
 	@Scheduled(fixedDelay = 1_8000_000) // 30 minutes
@@ -483,6 +696,7 @@ public class ItemService
 		tradeableItems = items.stream()
 			.filter(item -> item.isTradeable)
 			.mapToInt(item -> item.id)
+			.sorted()
 			.toArray();
 		log.debug("Loaded {} tradeable items", tradeableItems.length);
 	}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fetches item prices on a pool of workers, requested items first and
+ * then the items with the stalest prices, and writes them in batches
+ */
+@Slf4j
+class PriceCrawler
+{
+	private static final int BATCH_SIZE = 32; // items per batch write
+
+	private final ItemService itemService;
+	private final TokenBucket rateLimiter;
+	private final int reservedTokens;
+	private final int threads;
+
+	private final PriorityBlockingQueue<PriceLookup> queue = new PriorityBlockingQueue<>();
+	private final Map<Integer, PriceLookup> queued = new ConcurrentHashMap<>(); // the current lookup of each queued item
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final List<PriceEntry> pendingWrites = new ArrayList<>();
+	private int pendingItems;
+
+	private final AtomicLong fetched = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+
+	private ExecutorService executor;
+
+	/**
+	 * @param itemService
+	 * @param rateLimiter rate limiter shared with user lookups
+	 * @param reservedTokens number of tokens the crawler leaves in the bucket
+	 * for user lookups
+	 * @param threads number of workers
+	 */
+	PriceCrawler(ItemService itemService, TokenBucket rateLimiter, int reservedTokens, int threads)
+	{
+		this.itemService = itemService;
+		this.rateLimiter = rateLimiter;
+		this.reservedTokens = reservedTokens;
+		this.threads = threads;
+	}
+
+	void start()
+	{
+		executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("price-crawler-%d")
+			.setDaemon(true)
+			.build());
+
+		for (int i = 0; i < threads; ++i)
+		{
+			executor.submit(this::run);
+		}
+	}
+
+	void stop()
+	{
+		executor.shutdownNow();
+		flush();
+	}
+
+	/**
+	 * Queue a price lookup for an item. An item which is already queued
+	 * is not queued again, unless it is now requested by a user, in which
+	 * case its lookup is moved ahead of the crawl.
+	 *
+	 * @param itemId
+	 * @param requested whether the item was requested by a user
+	 * @param lastFetched when the price of the item was last fetched
+	 */
+	void queue(int itemId, boolean requested, Instant lastFetched)
+	{
+		PriceLookup lookup = new PriceLookup(itemId, requested, lastFetched, sequence.getAndIncrement());
+		PriceLookup existing = queued.putIfAbsent(itemId, lookup);
+
+		if (existing == null)
+		{
+			queue.add(lookup);
+		}
+		else if (requested && !existing.isRequested() && queued.replace(itemId, existing, lookup))
+		{
+			queue.add(lookup);
+			// a worker which has already taken the old lookup skips it, see run()
+			queue.remove(existing);
+		}
+	}
+
+	int getQueueDepth()
+	{
+		return queue.size();
+	}
+
+	long getFetched()
+	{
+		return fetched.get();
+	}
+
+	long getFailed()
+	{
+		return failed.get();
+	}
+
+	private void run()
+	{
+		while (!Thread.currentThread().isInterrupted())
+		{
+			try
+			{
+				PriceLookup lookup = queue.take();
+				if (queued.get(lookup.getItemId()) != lookup)
+				{
+					// replaced by a lookup with a higher priority
+					continue;
+				}
+
+				try
+				{
+					rateLimiter.acquire(reservedTokens);
+
+					List<PriceEntry> entries = itemService.fetchRSPriceEntries(lookup.getItemId());
+
+					if (entries == null)
+					{
+						failed.incrementAndGet();
+						continue;
+					}
+
+					fetched.incrementAndGet();
+					write(entries);
+				}
+				finally
+				{
+					queued.remove(lookup.getItemId(), lookup);
+				}
+			}
+			catch (InterruptedException ex)
+			{
+				return;
+			}
+			catch (RuntimeException ex)
+			{
+				log.warn("error crawling prices", ex);
+			}
+		}
+	}
+
+	private void write(List<PriceEntry> entries)
+	{
+		List<PriceEntry> batch = null;
+
+		synchronized (this)
+		{
+			pendingWrites.addAll(entries);
+
+			if (++pendingItems >= BATCH_SIZE)
+			{
+				batch = new ArrayList<>(pendingWrites);
+				pendingWrites.clear();
+				pendingItems = 0;
+			}
+		}
+
+		if (batch != null)
+		{
+			itemService.savePrices(batch);
+		}
+	}
+
+	/**
+	 * Write all fetched prices which have not been written yet
+	 */
+	void flush()
+	{
+		List<PriceEntry> batch;
+
+		synchronized (this)
+		{
+			if (pendingWrites.isEmpty())
+			{
+				return;
+			}
+
+			batch = new ArrayList<>(pendingWrites);
+			pendingWrites.clear();
+			pendingItems = 0;
+		}
+
+		itemService.savePrices(batch);
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The latest price of each item, indexed by item id. Reads do not lock.
+ * <p>
+ * Individual updates are visible to {@link #get(int)} immediately, but the
+ * version only changes when they are published with {@link #publish()},
+ * so readers caching the whole table don't rebuild it on every update.
+ */
+class PriceTable
+{
+	private volatile PriceEntry[] prices = new PriceEntry[0];
+	private volatile int version;
+	private boolean dirty;
+
+	PriceEntry get(int itemId)
+	{
+		PriceEntry[] p = prices;
+		return itemId >= 0 && itemId < p.length ? p[itemId] : null;
+	}
+
+	List<PriceEntry> getAll()
+	{
+		PriceEntry[] p = prices;
+		List<PriceEntry> entries = new ArrayList<>();
+		for (PriceEntry entry : p)
+		{
+			if (entry != null)
+			{
+				entries.add(entry);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Set the price of an item, unless a newer price is already known
+	 *
+	 * @param entry
+	 */
+	synchronized void update(PriceEntry entry)
+	{
+		int itemId = entry.getItem();
+		if (itemId < 0)
+		{
+			return;
+		}
+
+		PriceEntry[] p = prices;
+		if (itemId >= p.length)
+		{
+			p = Arrays.copyOf(p, Math.max(itemId + 1, p.length * 2));
+		}
+
+		PriceEntry existing = p[itemId];
+		if (existing != null && existing.getTime().isAfter(entry.getTime()))
+		{
+			return;
+		}
+
+		p[itemId] = entry;
+		// make the new entry visible to readers
+		prices = p;
+		dirty = true;
+	}
+
+	/**
+	 * Replace the table with the given prices, keeping any existing
+	 * prices which are newer
+	 *
+	 * @param entries
+	 */
+	synchronized void replace(List<PriceEntry> entries)
+	{
+		PriceEntry[] old = prices;
+		int max = old.length;
+		for (PriceEntry entry : entries)
+		{
+			max = Math.max(max, entry.getItem() + 1);
+		}
+
+		PriceEntry[] p = new PriceEntry[max];
+		for (PriceEntry entry : entries)
+		{
+			if (entry.getItem() >= 0)
+			{
+				p[entry.getItem()] = entry;
+			}
+		}
+
+		for (int i = 0; i < old.length; ++i)
+		{
+			if (old[i] != null && (p[i] == null || old[i].getTime().isAfter(p[i].getTime())))
+			{
+				p[i] = old[i];
+			}
+		}
+
+		prices = p;
+		dirty = false;
+		++version;
+	}
+
+	/**
+	 * Change the version if the table has been updated since it
+	 * was last published
+	 *
+	 * @return true if the version changed
+	 */
+	synchronized boolean publish()
+	{
+		if (!dirty)
+		{
+			return false;
+		}
+
+		dirty = false;
+		++version;
+		return true;
+	}
+
+	/**
+	 * @return a counter which changes each time modifications to the table are published
+	 */
+	int getVersion()
+	{
+		return version;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter. Tokens are added at a fixed rate, up to the
+ * capacity of the bucket, and each request consumes one token.
+ */
+class TokenBucket
+{
+	private final double capacity;
+	private final double tokensPerNano;
+
+	private double tokens;
+	private long lastRefill;
+
+	TokenBucket(int capacity, double tokensPerSecond)
+	{
+		this.capacity = capacity;
+		this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.tokens = capacity;
+		this.lastRefill = System.nanoTime();
+	}
+
+	synchronized boolean tryAcquire()
+	{
+		refill();
+
+		if (tokens >= 1)
+		{
+			tokens -= 1;
+			return true;
+		}
+
+		return false;
+	}
+
+	void acquire() throws InterruptedException
+	{
+		acquire(0);
+	}
+
+	/**
+	 * Take a token, waiting until one is available without taking any of
+	 * the reserved tokens. The reserved tokens are left for callers of
+	 * {@link #tryAcquire()}, which get them ahead of waiting callers.
+	 *
+	 * @param reserved number of tokens to leave in the bucket
+	 * @throws InterruptedException
+	 */
+	void acquire(int reserved) throws InterruptedException
+	{
+		for (;;)
+		{
+			long wait;
+
+			synchronized (this)
+			{
+				refill();
+
+				if (tokens >= 1 + reserved)
+				{
+					tokens -= 1;
+					return;
+				}
+
+				wait = (long) ((1 + reserved - tokens) / tokensPerNano);
+			}
+
+			TimeUnit.NANOSECONDS.sleep(Math.max(wait, TimeUnit.MILLISECONDS.toNanos(1)));
+		}
+	}
+
+	private void refill()
+	{
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+		lastRefill = now;
+	}
+}
@@ -56,6 +56,9 @@ public class XteaService
 {
 	private static final Logger logger = LoggerFactory.getLogger(XteaService.class);
 
+	// keys are checked by decompressing the map, which is then discarded
+	private static final ThreadLocal<byte[]> DECOMPRESS_BUFFER = ThreadLocal.withInitial(() -> new byte[0]);
+
 	private static final String CREATE_SQL = "CREATE TABLE IF NOT EXISTS `xtea` (\n"
 		+ "  `id` int(11) NOT NULL AUTO_INCREMENT,\n"
 		+ "  `region` int(11) NOT NULL,\n"
@@ -219,7 +222,8 @@ public class XteaService
 
 		try
 		{
-			Container.decompress(data, keys);
+			// decryption is done in place, so don't clobber the cached archive
+			Container.decompressInPlace(data.clone(), keys, XteaService::decompressBuffer);
 			return true;
 		}
 		catch (IOException ex)
@@ -228,6 +232,17 @@ public class XteaService
 		}
 	}
 
+	private static byte[] decompressBuffer(int length)
+	{
+		byte[] buffer = DECOMPRESS_BUFFER.get();
+		if (buffer.length < length)
+		{
+			buffer = new byte[length];
+			DECOMPRESS_BUFFER.set(buffer);
+		}
+		return buffer;
+	}
+
 	private static XteaKey entryToKey(XteaEntry xe)
 	{
 		XteaKey xteaKey = new XteaKey();
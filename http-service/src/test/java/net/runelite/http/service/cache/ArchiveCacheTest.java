@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testHeapHit() throws IOException
+	{
+		File directory = folder.newFolder();
+		ArchiveCache cache = new ArchiveCache(directory, 1024);
+
+		byte[] data = data(1, 40);
+		cache.putArchive(hash(data), data);
+		Files.delete(path(directory, data));
+
+		assertArrayEquals(data, cache.getArchive(hash(data)));
+		assertEquals(0, cache.stats().getDiskHits());
+	}
+
+	@Test
+	public void testDiskHit() throws IOException
+	{
+		File directory = folder.newFolder();
+		byte[] data = data(1, 40);
+		new ArchiveCache(directory, 1024).putArchive(hash(data), data);
+
+		ArchiveCache cache = new ArchiveCache(directory, 1024);
+		assertEquals(40, cache.getDiskSize());
+		assertArrayEquals(data, cache.getArchive(hash(data)));
+		assertEquals(1, cache.stats().getDiskHits());
+	}
+
+	@Test
+	public void testCorruptFile() throws IOException
+	{
+		File directory = folder.newFolder();
+		byte[] data = data(1, 40);
+		new ArchiveCache(directory, 1024).putArchive(hash(data), data);
+
+		Path path = path(directory, data);
+		Files.write(path, data(2, 20));
+
+		ArchiveCache cache = new ArchiveCache(directory, 1024);
+		assertNull(cache.getArchive(hash(data)));
+		assertFalse(Files.exists(path));
+		assertEquals(0, cache.getDiskSize());
+		assertEquals(1, cache.stats().getDiskMisses());
+	}
+
+	@Test
+	public void testEviction() throws IOException
+	{
+		File directory = folder.newFolder();
+		ArchiveCache cache = new ArchiveCache(directory, 100);
+
+		byte[] first = data(1, 40);
+		byte[] second = data(2, 40);
+		byte[] third = data(3, 40);
+		cache.putArchive(hash(first), first);
+		cache.putArchive(hash(second), second);
+		cache.putArchive(hash(third), third);
+
+		assertFalse(Files.exists(path(directory, first)));
+		assertTrue(Files.exists(path(directory, second)));
+		assertTrue(Files.exists(path(directory, third)));
+		assertEquals(80, cache.getDiskSize());
+	}
+
+	@Test
+	public void testEvictionOnLoad() throws IOException
+	{
+		File directory = folder.newFolder();
+		ArchiveCache cache = new ArchiveCache(directory, 1024);
+
+		byte[] first = data(1, 40);
+		byte[] second = data(2, 40);
+		byte[] third = data(3, 40);
+		cache.putArchive(hash(first), first);
+		cache.putArchive(hash(second), second);
+		cache.putArchive(hash(third), third);
+
+		// the second archive is the least recently used
+		Files.setLastModifiedTime(path(directory, first), FileTime.fromMillis(3000));
+		Files.setLastModifiedTime(path(directory, second), FileTime.fromMillis(1000));
+		Files.setLastModifiedTime(path(directory, third), FileTime.fromMillis(2000));
+
+		cache = new ArchiveCache(directory, 100);
+		assertEquals(80, cache.getDiskSize());
+		assertTrue(Files.exists(path(directory, first)));
+		assertFalse(Files.exists(path(directory, second)));
+		assertTrue(Files.exists(path(directory, third)));
+	}
+
+	@Test
+	public void testNoDirectory()
+	{
+		ArchiveCache cache = new ArchiveCache(null, 1024);
+
+		byte[] data = data(1, 40);
+		assertNull(cache.getArchive(hash(data)));
+		cache.putArchive(hash(data), data);
+		assertArrayEquals(data, cache.getArchive(hash(data)));
+		assertEquals(0, cache.getDiskSize());
+	}
+
+	private static byte[] data(int seed, int length)
+	{
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; ++i)
+		{
+			data[i] = (byte) (seed * 31 + i);
+		}
+		return data;
+	}
+
+	private static byte[] hash(byte[] data)
+	{
+		return Hashing.sha256().hashBytes(data).asBytes();
+	}
+
+	private static Path path(File directory, byte[] data)
+	{
+		String hashStr = BaseEncoding.base16().encode(hash(data));
+		return directory.toPath().resolve(hashStr.substring(0, 2)).resolve(hashStr.substring(2));
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PriceCrawlerTest
+{
+	@Test
+	public void testTokenBucket()
+	{
+		TokenBucket bucket = new TokenBucket(3, 0.001);
+
+		assertTrue(bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire());
+		assertFalse(bucket.tryAcquire());
+	}
+
+	@Test
+	public void testTokenBucketAcquire() throws InterruptedException
+	{
+		TokenBucket bucket = new TokenBucket(1, 100);
+
+		long start = System.nanoTime();
+		bucket.acquire();
+		bucket.acquire();
+		bucket.acquire();
+		long elapsed = System.nanoTime() - start;
+
+		// two refills at 100/s
+		assertTrue(elapsed >= 15_000_000L);
+	}
+
+	@Test
+	public void testLookupOrder()
+	{
+		PriorityQueue<PriceLookup> queue = new PriorityQueue<>();
+		queue.add(new PriceLookup(1, false, Instant.ofEpochSecond(200), 0));
+		queue.add(new PriceLookup(2, false, Instant.ofEpochSecond(100), 1));
+		queue.add(new PriceLookup(3, true, Instant.ofEpochSecond(300), 2));
+		queue.add(new PriceLookup(4, false, Instant.ofEpochSecond(100), 3));
+
+		assertEquals(3, queue.poll().getItemId());
+		assertEquals(2, queue.poll().getItemId());
+		assertEquals(4, queue.poll().getItemId());
+		assertEquals(1, queue.poll().getItemId());
+	}
+
+	@Test
+	public void testTokenBucketReserved() throws InterruptedException
+	{
+		TokenBucket bucket = new TokenBucket(3, 0.001);
+
+		bucket.acquire(2);
+
+		// the reserved tokens are left for tryAcquire
+		assertTrue(bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire());
+		assertFalse(bucket.tryAcquire());
+	}
+
+	@Test
+	public void testCrawlRequestedFirst() throws InterruptedException
+	{
+		List<Integer> lookups = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(3);
+
+		ItemService itemService = mock(ItemService.class);
+		when(itemService.fetchRSPriceEntries(anyInt())).thenAnswer(invocation ->
+		{
+			lookups.add((Integer) invocation.getArguments()[0]);
+			latch.countDown();
+			return Collections.emptyList();
+		});
+
+		PriceCrawler crawler = new PriceCrawler(itemService, new TokenBucket(10, 1000), 1, 1);
+		crawler.queue(1, false, Instant.ofEpochSecond(100));
+		crawler.queue(2, false, Instant.ofEpochSecond(200));
+		crawler.queue(3, false, Instant.ofEpochSecond(300));
+		// already queued, moved ahead of the crawl
+		crawler.queue(3, true, Instant.ofEpochSecond(300));
+
+		crawler.start();
+		try
+		{
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		}
+		finally
+		{
+			crawler.stop();
+		}
+
+		assertEquals(Arrays.asList(3, 1, 2), lookups);
+		assertEquals(3, crawler.getFetched());
+		assertEquals(0, crawler.getQueueDepth());
+	}
+
+	@Test
+	public void testCrawlRequeueAfterError() throws InterruptedException
+	{
+		CountDownLatch failed = new CountDownLatch(1);
+		CountDownLatch fetched = new CountDownLatch(1);
+
+		ItemService itemService = mock(ItemService.class);
+		when(itemService.fetchRSPriceEntries(anyInt())).thenAnswer(invocation ->
+		{
+			if (failed.getCount() > 0)
+			{
+				failed.countDown();
+				throw new RuntimeException("lookup failed");
+			}
+
+			fetched.countDown();
+			return Collections.emptyList();
+		});
+
+		PriceCrawler crawler = new PriceCrawler(itemService, new TokenBucket(10, 1000), 0, 1);
+		crawler.start();
+		try
+		{
+			crawler.queue(1, true, Instant.EPOCH);
+			assertTrue(failed.await(5, TimeUnit.SECONDS));
+
+			// the failed lookup is no longer queued, wait for the worker to release it
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (fetched.getCount() > 0 && System.nanoTime() < deadline)
+			{
+				crawler.queue(1, true, Instant.EPOCH);
+				fetched.await(10, TimeUnit.MILLISECONDS);
+			}
+			assertEquals(0, fetched.getCount());
+		}
+		finally
+		{
+			crawler.stop();
+		}
+	}
+}
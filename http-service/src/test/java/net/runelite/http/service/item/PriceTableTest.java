@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import java.time.Instant;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PriceTableTest
+{
+	@Test
+	public void testPublish()
+	{
+		PriceTable table = new PriceTable();
+		int version = table.getVersion();
+
+		table.update(entry(1, 100, 10));
+		table.update(entry(2, 200, 10));
+
+		// updates are readable at once, but don't change the version until published
+		assertEquals(100, table.get(1).getPrice());
+		assertEquals(version, table.getVersion());
+
+		assertTrue(table.publish());
+		assertEquals(version + 1, table.getVersion());
+
+		// nothing to publish
+		assertFalse(table.publish());
+		assertEquals(version + 1, table.getVersion());
+	}
+
+	@Test
+	public void testUpdateKeepsNewer()
+	{
+		PriceTable table = new PriceTable();
+		table.update(entry(1, 100, 20));
+		table.update(entry(1, 50, 10));
+
+		assertEquals(100, table.get(1).getPrice());
+	}
+
+	private static PriceEntry entry(int item, int price, long time)
+	{
+		PriceEntry entry = new PriceEntry();
+		entry.setItem(item);
+		entry.setPrice(price);
+		entry.setTime(Instant.ofEpochSecond(time));
+		return entry;
+	}
+}
@@ -57,6 +57,7 @@ public class ArchiveResponseEncoderTest
 		ByteBuf buf = Unpooled.buffer(1024);
 		ArchiveResponseEncoder encoder = new ArchiveResponseEncoder();
 		encoder.encode(null, archiveResponse, buf);
+		Assert.assertEquals(ArchiveResponseEncoder.encodedSize(compressedData.length), buf.readableBytes());
 
 		ArchiveResponseDecoder decoder = new ArchiveResponseDecoder();
 		List<Object> out = new ArrayList<>();
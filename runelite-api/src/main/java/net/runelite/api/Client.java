@@ -513,6 +513,150 @@ public interface Client extends GameEngine
 	 */
 	void setMenuEntries(MenuEntry[] entries);
 
+	/**
+	 * Gets the number of open menu entries.
+	 * <p>
+	 * The indexed menu accessors below read and modify the menu in place,
+	 * without creating the {@link MenuEntry} objects of {@link #getMenuEntries()}.
+	 * Index 0 is the bottom entry of the menu, and the last index is the
+	 * entry that is clicked by default.
+	 *
+	 * @return the number of menu entries
+	 */
+	int getMenuOptionCount();
+
+	/**
+	 * Gets the option text of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @return the option text
+	 */
+	String getMenuOption(int index);
+
+	/**
+	 * Sets the option text of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @param option the new option text
+	 */
+	void setMenuOption(int index, String option);
+
+	/**
+	 * Gets the target of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @return the target
+	 */
+	String getMenuTarget(int index);
+
+	/**
+	 * Sets the target of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @param target the new target
+	 */
+	void setMenuTarget(int index, String target);
+
+	/**
+	 * Gets the option text of a menu entry with any tags removed,
+	 * in lower case.
+	 * <p>
+	 * The result is cached until the option of the entry is changed.
+	 *
+	 * @param index the menu entry index
+	 * @return the normalized option text
+	 */
+	String getNormalizedMenuOption(int index);
+
+	/**
+	 * Gets the target of a menu entry with any tags removed,
+	 * in lower case.
+	 * <p>
+	 * The result is cached until the target of the entry is changed.
+	 *
+	 * @param index the menu entry index
+	 * @return the normalized target
+	 */
+	String getNormalizedMenuTarget(int index);
+
+	/**
+	 * Gets the identifier of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @return the identifier
+	 */
+	int getMenuIdentifier(int index);
+
+	/**
+	 * Gets the action type of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @return the action type
+	 * @see MenuAction
+	 */
+	int getMenuType(int index);
+
+	/**
+	 * Sets the action type of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @param type the new action type
+	 */
+	void setMenuType(int index, int type);
+
+	/**
+	 * Gets the first action parameter of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @return the first action parameter
+	 */
+	int getMenuActionParam0(int index);
+
+	/**
+	 * Gets the second action parameter of a menu entry.
+	 *
+	 * @param index the menu entry index
+	 * @return the second action parameter
+	 */
+	int getMenuActionParam1(int index);
+
+	/**
+	 * Adds a menu entry to the top of the menu.
+	 *
+	 * @param option the option text
+	 * @param target the target
+	 * @param type the action type
+	 * @param identifier the identifier
+	 * @param param0 the first action parameter
+	 * @param param1 the second action parameter
+	 * @return the index of the new entry, or -1 if the menu is full
+	 */
+	int addMenuEntry(String option, String target, int type, int identifier, int param0, int param1);
+
+	/**
+	 * Swaps two menu entries.
+	 *
+	 * @param a the index of the first entry
+	 * @param b the index of the second entry
+	 */
+	void swapMenuEntries(int a, int b);
+
+	/**
+	 * Moves a menu entry to another index, shifting the entries
+	 * in between by one.
+	 *
+	 * @param from the index of the entry to move
+	 * @param to the index to move the entry to
+	 */
+	void moveMenuEntry(int from, int to);
+
+	/**
+	 * Removes a menu entry, shifting the entries above it down by one.
+	 *
+	 * @param index the index of the entry to remove
+	 */
+	void removeMenuEntry(int index);
+
 	/**
 	 * Checks whether a right-click menu is currently open.
 	 *
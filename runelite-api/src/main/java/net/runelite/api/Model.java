@@ -46,4 +46,61 @@ public interface Model extends Renderable
 	 * @return the triangle
 	 */
 	List<Triangle> getTriangles();
+
+	/**
+	 * Gets the number of vertices of the model.
+	 *
+	 * @return the vertex count
+	 */
+	int getVerticesCount();
+
+	/**
+	 * Gets the x coordinates of the vertices of the model. The array
+	 * may be larger than the number of vertices.
+	 *
+	 * @return the x coordinates
+	 */
+	int[] getVerticesX();
+
+	/**
+	 * Gets the y coordinates of the vertices of the model.
+	 *
+	 * @return the y coordinates
+	 */
+	int[] getVerticesY();
+
+	/**
+	 * Gets the z coordinates of the vertices of the model.
+	 *
+	 * @return the z coordinates
+	 */
+	int[] getVerticesZ();
+
+	/**
+	 * Gets the number of triangles of the model.
+	 *
+	 * @return the triangle count
+	 */
+	int getTrianglesCount();
+
+	/**
+	 * Gets the index of the first vertex of each triangle.
+	 *
+	 * @return the vertex indices
+	 */
+	int[] getTrianglesX();
+
+	/**
+	 * Gets the index of the second vertex of each triangle.
+	 *
+	 * @return the vertex indices
+	 */
+	int[] getTrianglesY();
+
+	/**
+	 * Gets the index of the third vertex of each triangle.
+	 *
+	 * @return the vertex indices
+	 */
+	int[] getTrianglesZ();
 }
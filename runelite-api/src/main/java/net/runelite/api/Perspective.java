@@ -27,19 +27,16 @@ package net.runelite.api;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
-import java.awt.Rectangle;
 import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.model.Jarvis;
-import net.runelite.api.model.Triangle;
-import net.runelite.api.model.Vertex;
+import net.runelite.api.model.RectangleUnion;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 
@@ -104,6 +101,57 @@ public class Perspective
 		return localToCanvas(client, x, y, tileHeight - zOffset);
 	}
 
+	/**
+	 * Translates the centers of tiles on the current plane to their
+	 * corresponding coordinates on the game screen. Tiles which are not on
+	 * screen have their coordinates set to {@link Integer#MIN_VALUE}.
+	 * <p>
+	 * The projections are cached until the camera or scene changes, so
+	 * projecting the same tiles again within a frame is cheap.
+	 *
+	 * @param client the game client
+	 * @param sceneX scene x coordinates of the tiles
+	 * @param sceneY scene y coordinates of the tiles
+	 * @param zOffsets distances from ground on the z axis of the tiles
+	 * @param count number of tiles
+	 * @param canvasX array to store the canvas x coordinates in
+	 * @param canvasY array to store the canvas y coordinates in
+	 * @return the number of tiles which are on screen
+	 */
+	public static int projectTiles(@Nonnull Client client, int[] sceneX, int[] sceneY, int[] zOffsets, int count,
+		int[] canvasX, int[] canvasY)
+	{
+		final ProjectionCache cache = ProjectionCache.get(client);
+		final int plane = client.getPlane();
+
+		int visible = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final int x = sceneX[i];
+			final int y = sceneY[i];
+
+			long p = Long.MIN_VALUE;
+			if (x >= 0 && y >= 0 && x < SCENE_SIZE && y < SCENE_SIZE)
+			{
+				p = cache.tile(client, plane, x, y, zOffsets[i]);
+			}
+
+			if (p == Long.MIN_VALUE)
+			{
+				canvasX[i] = ProjectionCache.OFFSCREEN;
+				canvasY[i] = ProjectionCache.OFFSCREEN;
+			}
+			else
+			{
+				canvasX[i] = (int) (p >> 32);
+				canvasY[i] = (int) p;
+				++visible;
+			}
+		}
+
+		return visible;
+	}
+
 	/**
 	 * Translates three-dimensional local coordinates within the 3D world to
 	 * their corresponding coordinates on the game screen.
@@ -149,6 +197,99 @@ public class Perspective
 
 	}
 
+	private static Point toPoint(long point)
+	{
+		if (point == Long.MIN_VALUE)
+		{
+			return null;
+		}
+
+		return new Point((int) (point >> 32), (int) point);
+	}
+
+	/**
+	 * Translates the vertices of a model, rotated and placed at a local
+	 * position, to their corresponding coordinates on the game screen.
+	 * Vertices which are not on screen are skipped.
+	 *
+	 * @param client the game client
+	 * @param model the model
+	 * @param localX local x coordinate of the model
+	 * @param localY local y coordinate of the model
+	 * @param orientation orientation of the model
+	 * @param x2d array to store the x coordinates in, at least as large as the vertex count
+	 * @param y2d array to store the y coordinates in, at least as large as the vertex count
+	 * @return the number of points stored
+	 */
+	public static int modelToCanvas(@Nonnull Client client, @Nonnull Model model, int localX, int localY, int orientation,
+		int[] x2d, int[] y2d)
+	{
+		final int count = model.getVerticesCount();
+		final int[] verticesX = model.getVerticesX();
+		final int[] verticesY = model.getVerticesY();
+		final int[] verticesZ = model.getVerticesZ();
+
+		// models are orientated north (1024) and there are 2048 angles total
+		orientation = (orientation + 1024) % 2048;
+		final int rotateSin = SINE[orientation];
+		final int rotateCos = COSINE[orientation];
+
+		final int plane = client.getPlane();
+		final int cameraX = client.getCameraX();
+		final int cameraY = client.getCameraY();
+		final int cameraZ = client.getCameraZ();
+		final int pitchSin = SINE[client.getCameraPitch()];
+		final int pitchCos = COSINE[client.getCameraPitch()];
+		final int yawSin = SINE[client.getCameraYaw()];
+		final int yawCos = COSINE[client.getCameraYaw()];
+		final int centerX = client.getViewportWidth() / 2;
+		final int centerY = client.getViewportHeight() / 2;
+		final int scale = client.getScale();
+
+		int n = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			int vx = verticesX[i];
+			int vy = verticesY[i];
+			int vz = verticesZ[i];
+
+			if (orientation != 0)
+			{
+				int rx = vx * rotateCos + vz * rotateSin >> 16;
+				vz = vz * rotateCos - vx * rotateSin >> 16;
+				vx = rx;
+			}
+
+			int x = localX - vx;
+			int y = localY - vz;
+
+			if (x < 128 || y < 128 || x > 13056 || y > 13056)
+			{
+				continue;
+			}
+
+			int z = getTileHeight(client, x, y, plane) + vy;
+
+			x -= cameraX;
+			y -= cameraY;
+			z -= cameraZ;
+
+			int x1 = yawCos * x + y * yawSin >> 16;
+			int y1 = yawCos * y - yawSin * x >> 16;
+			int z1 = pitchCos * z - y1 * pitchSin >> 16;
+			int depth = z * pitchSin + y1 * pitchCos >> 16;
+
+			if (depth >= 50)
+			{
+				x2d[n] = centerX + x1 * scale / depth;
+				y2d[n] = centerY + z1 * scale / depth;
+				++n;
+			}
+		}
+
+		return n;
+	}
+
 	/**
 	 * Translates two-dimensional ground coordinates within the 3D world to
 	 * their corresponding coordinates on the Minimap.
@@ -268,7 +409,7 @@ public class Perspective
 	 * @param plane
 	 * @return
 	 */
-	private static int getHeight(@Nonnull Client client, int localX, int localY, int plane)
+	static int getHeight(@Nonnull Client client, int localX, int localY, int plane)
 	{
 		int sceneX = localX >> LOCAL_COORD_BITS;
 		int sceneY = localY >> LOCAL_COORD_BITS;
@@ -339,15 +480,33 @@ public class Perspective
 			tilePlane = plane + 1;
 		}
 
-		final int swHeight = getHeight(client, swX, swY, tilePlane);
-		final int nwHeight = getHeight(client, nwX, nwY, tilePlane);
-		final int neHeight = getHeight(client, neX, neY, tilePlane);
-		final int seHeight = getHeight(client, seX, seY, tilePlane);
+		Point p1;
+		Point p2;
+		Point p3;
+		Point p4;
 
-		Point p1 = localToCanvas(client, swX, swY, swHeight);
-		Point p2 = localToCanvas(client, nwX, nwY, nwHeight);
-		Point p3 = localToCanvas(client, neX, neY, neHeight);
-		Point p4 = localToCanvas(client, seX, seY, seHeight);
+		// corners on the tile grid are shared between tiles, so are cached for the frame
+		if ((swX & (LOCAL_TILE_SIZE - 1)) == 0 && (swY & (LOCAL_TILE_SIZE - 1)) == 0
+			&& swX >= 0 && swY >= 0 && neX <= SCENE_SIZE * LOCAL_TILE_SIZE && neY <= SCENE_SIZE * LOCAL_TILE_SIZE)
+		{
+			final ProjectionCache cache = ProjectionCache.get(client);
+			p1 = toPoint(cache.corner(client, tilePlane, swX, swY));
+			p2 = toPoint(cache.corner(client, tilePlane, nwX, nwY));
+			p3 = toPoint(cache.corner(client, tilePlane, neX, neY));
+			p4 = toPoint(cache.corner(client, tilePlane, seX, seY));
+		}
+		else
+		{
+			final int swHeight = getHeight(client, swX, swY, tilePlane);
+			final int nwHeight = getHeight(client, nwX, nwY, tilePlane);
+			final int neHeight = getHeight(client, neX, neY, tilePlane);
+			final int seHeight = getHeight(client, seX, seY, tilePlane);
+
+			p1 = localToCanvas(client, swX, swY, swHeight);
+			p2 = localToCanvas(client, nwX, nwY, nwHeight);
+			p3 = localToCanvas(client, neX, neY, neHeight);
+			p4 = localToCanvas(client, seX, seY, seHeight);
+		}
 
 		if (p1 == null || p2 == null || p3 == null || p4 == null)
 		{
@@ -515,16 +674,63 @@ public class Perspective
 			return null;
 		}
 
-		List<Triangle> triangles = model.getTriangles().stream()
-			.map(triangle -> triangle.rotate(orientation))
-			.collect(Collectors.toList());
+		final int count = model.getVerticesCount();
+		final int[] verticesX = model.getVerticesX();
+		final int[] verticesY = model.getVerticesY();
+		final int[] verticesZ = model.getVerticesZ();
+
+		final int tileHeight = getTileHeight(client, localX, localY, client.getPlane());
+
+		// models are orientated north (1024) and there are 2048 angles total
+		final int rotation = (orientation + 1024) % 2048;
+		final int rotateSin = SINE[rotation];
+		final int rotateCos = COSINE[rotation];
+
+		int maxX = 0;
+		int minX = 0;
+		int maxY = 0;
+		int minY = 0;
+		int maxZ = 0;
+		int minZ = 0;
+
+		// project each vertex once, rather than once per triangle it is part of,
+		// reading the camera once for the whole model
+		final ProjectionCache cache = ProjectionCache.get(client);
+		final int[] x2d = new int[count];
+		final int[] y2d = new int[count];
+		final boolean[] visible = new boolean[count];
+
+		for (int i = 0; i < count; ++i)
+		{
+			int x = verticesX[i];
+			int y = verticesY[i];
+			int z = verticesZ[i];
 
-		List<Vertex> vertices = model.getVertices().stream()
-				.map(v -> v.rotate(orientation))
-				.collect(Collectors.toList());
+			if (rotation != 0)
+			{
+				int rx = x * rotateCos + z * rotateSin >> 16;
+				z = z * rotateCos - x * rotateSin >> 16;
+				x = rx;
+			}
 
-		Area clickBox = get2DGeometry(client, triangles, orientation, localX, localY);
-		Area visibleAABB = getAABB(client, vertices, orientation, localX, localY);
+			maxX = Math.max(maxX, x);
+			minX = Math.min(minX, x);
+			maxY = Math.max(maxY, y);
+			minY = Math.min(minY, y);
+			maxZ = Math.max(maxZ, z);
+			minZ = Math.min(minZ, z);
+
+			long p = cache.project(localX - x, localY - z, tileHeight + y);
+			if (p != Long.MIN_VALUE)
+			{
+				x2d[i] = (int) (p >> 32);
+				y2d[i] = (int) p;
+				visible[i] = true;
+			}
+		}
+
+		Area clickBox = get2DGeometry(client, model, x2d, y2d, visible);
+		Area visibleAABB = getAABB(cache, tileHeight, minX, maxX, minY, maxY, minZ, maxZ, localX, localY);
 
 		if (visibleAABB == null || clickBox == null)
 		{
@@ -539,146 +745,89 @@ public class Perspective
 	 * Determine if a given point is off-screen.
 	 *
 	 * @param client
-	 * @param point
+	 * @param x
+	 * @param y
 	 * @return
 	 */
-	private static boolean isOffscreen(@Nonnull Client client, @Nonnull Point point)
+	private static boolean isOffscreen(@Nonnull Client client, int x, int y)
 	{
-		return (point.getX() < 0 || point.getX() >= client.getViewportWidth())
-			&& (point.getY() < 0 || point.getY() >= client.getViewportHeight());
+		return (x < 0 || x >= client.getViewportWidth())
+			&& (y < 0 || y >= client.getViewportHeight());
 	}
 
 	private static Area get2DGeometry(
 		@Nonnull Client client,
-		@Nonnull List<Triangle> triangles,
-		int orientation,
-		int localX,
-		int localY
+		@Nonnull Model model,
+		int[] x2d,
+		int[] y2d,
+		boolean[] visible
 	)
 	{
 		int radius = 5;
-		Area geometry = new Area();
+		RectangleUnion geometry = new RectangleUnion();
 
-		final int tileHeight = getTileHeight(client, localX, localY, client.getPlane());
+		final int count = model.getTrianglesCount();
+		final int[] trianglesX = model.getTrianglesX();
+		final int[] trianglesY = model.getTrianglesY();
+		final int[] trianglesZ = model.getTrianglesZ();
 
-		for (Triangle triangle : triangles)
-		{
-			Vertex _a = triangle.getA();
-			Point a = localToCanvas(client,
-				localX - _a.getX(),
-				localY - _a.getZ(),
-				tileHeight + _a.getY());
-			if (a == null)
-			{
-				continue;
-			}
+		final boolean resized = client.isResized();
+		final int viewportXOffset = client.getViewportXOffset();
+		final int viewportYOffset = client.getViewportYOffset();
 
-			Vertex _b = triangle.getB();
-			Point b = localToCanvas(client,
-				localX - _b.getX(),
-				localY - _b.getZ(),
-				tileHeight + _b.getY());
-			if (b == null)
-			{
-				continue;
-			}
+		for (int i = 0; i < count; ++i)
+		{
+			int a = trianglesX[i];
+			int b = trianglesY[i];
+			int c = trianglesZ[i];
 
-			Vertex _c = triangle.getC();
-			Point c = localToCanvas(client,
-				localX - _c.getX(),
-				localY - _c.getZ(),
-				tileHeight + _c.getY());
-			if (c == null)
+			if (!visible[a] || !visible[b] || !visible[c])
 			{
 				continue;
 			}
 
-			if (isOffscreen(client, a) && isOffscreen(client, b) && isOffscreen(client, c))
+			if (isOffscreen(client, x2d[a], y2d[a])
+				&& isOffscreen(client, x2d[b], y2d[b])
+				&& isOffscreen(client, x2d[c], y2d[c]))
 			{
 				continue;
 			}
 
-			int minX = Math.min(Math.min(a.getX(), b.getX()), c.getX());
-			int minY = Math.min(Math.min(a.getY(), b.getY()), c.getY());
+			int minX = Math.min(Math.min(x2d[a], x2d[b]), x2d[c]);
+			int minY = Math.min(Math.min(y2d[a], y2d[b]), y2d[c]);
 
 			// For some reason, this calculation is always 4 pixels short of the actual in-client one
-			int maxX = Math.max(Math.max(a.getX(), b.getX()), c.getX()) + 4;
-			int maxY = Math.max(Math.max(a.getY(), b.getY()), c.getY()) + 4;
+			int maxX = Math.max(Math.max(x2d[a], x2d[b]), x2d[c]) + 4;
+			int maxY = Math.max(Math.max(y2d[a], y2d[b]), y2d[c]) + 4;
 
 			// ...and the rectangles in the fixed client are shifted 4 pixels right and down
-			if (!client.isResized())
-			{
-				minX += client.getViewportXOffset();
-				minY += client.getViewportYOffset();
-				maxX += client.getViewportXOffset();
-				maxY += client.getViewportYOffset();
-			}
-
-			Rectangle clickableRect = new Rectangle(
-				minX - radius, minY - radius,
-				maxX - minX + radius, maxY - minY + radius
-			);
-
-			if (geometry.contains(clickableRect))
+			if (!resized)
 			{
-				continue;
+				minX += viewportXOffset;
+				minY += viewportYOffset;
+				maxX += viewportXOffset;
+				maxY += viewportYOffset;
 			}
 
-			geometry.add(new Area(clickableRect));
+			geometry.add(minX - radius, minY - radius, maxX, maxY);
 		}
 
-		return geometry;
+		return geometry.toArea();
 	}
 
 	private static Area getAABB(
-		@Nonnull Client client,
-		@Nonnull List<Vertex> vertices,
-		int orientation,
+		@Nonnull ProjectionCache cache,
+		int tileHeight,
+		int minX,
+		int maxX,
+		int minY,
+		int maxY,
+		int minZ,
+		int maxZ,
 		int localX,
 		int localY
 	)
 	{
-		int maxX = 0;
-		int minX = 0;
-		int maxY = 0;
-		int minY = 0;
-		int maxZ = 0;
-		int minZ = 0;
-
-		for (Vertex vertex : vertices)
-		{
-			int x = vertex.getX();
-			int y = vertex.getY();
-			int z = vertex.getZ();
-
-			if (x > maxX)
-			{
-				maxX = x;
-			}
-			if (x < minX)
-			{
-				minX = x;
-			}
-
-			if (y > maxY)
-			{
-				maxY = y;
-			}
-			if (y < minY)
-			{
-				minY = y;
-			}
-
-			if (z > maxZ)
-			{
-				maxZ = z;
-			}
-			if (z < minZ)
-			{
-				minZ = z;
-			}
-		}
-
 		int centerX = (minX + maxX) / 2;
 		int centerY = (minY + maxY) / 2;
 		int centerZ = (minZ + maxZ) / 2;
@@ -705,17 +854,15 @@ public class Perspective
 		int y2 = centerY + extremeY;
 		int z2 = localY - (centerZ + extremeZ);
 
-		final int tileHeight = getTileHeight(client, localX, localY, client.getPlane());
-
-		Point p1 = localToCanvas(client, x1, z1, tileHeight + y1);
-		Point p2 = localToCanvas(client, x1, z2, tileHeight + y1);
-		Point p3 = localToCanvas(client, x2, z2, tileHeight + y1);
+		Point p1 = toPoint(cache.project(x1, z1, tileHeight + y1));
+		Point p2 = toPoint(cache.project(x1, z2, tileHeight + y1));
+		Point p3 = toPoint(cache.project(x2, z2, tileHeight + y1));
 
-		Point p4 = localToCanvas(client, x2, z1, tileHeight + y1);
-		Point p5 = localToCanvas(client, x1, z1, tileHeight + y2);
-		Point p6 = localToCanvas(client, x1, z2, tileHeight + y2);
-		Point p7 = localToCanvas(client, x2, z2, tileHeight + y2);
-		Point p8 = localToCanvas(client, x2, z1, tileHeight + y2);
+		Point p4 = toPoint(cache.project(x2, z1, tileHeight + y1));
+		Point p5 = toPoint(cache.project(x1, z1, tileHeight + y2));
+		Point p6 = toPoint(cache.project(x1, z2, tileHeight + y2));
+		Point p7 = toPoint(cache.project(x2, z2, tileHeight + y2));
+		Point p8 = toPoint(cache.project(x2, z1, tileHeight + y2));
 
 		List<Point> points = new ArrayList<>(8);
 		points.add(p1);
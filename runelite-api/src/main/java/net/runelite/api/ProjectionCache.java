@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.Arrays;
+import static net.runelite.api.Perspective.COSINE;
+import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
+import static net.runelite.api.Perspective.SCENE_SIZE;
+import static net.runelite.api.Perspective.SINE;
+
+/**
+ * Caches the camera state and the canvas location of tiles for the
+ * duration of a frame, so overlays drawing the same tiles do not each
+ * recompute them.
+ * <p>
+ * The cache is invalidated whenever the game cycle, camera, viewport,
+ * plane or scene base changes. Checking this reads the client state, so
+ * callers get the cache once per batch of points and pass it down, rather
+ * than once per point. Each thread has its own cache.
+ */
+class ProjectionCache
+{
+	/**
+	 * Value stored for points which are not on screen.
+	 */
+	static final int OFFSCREEN = Integer.MIN_VALUE;
+
+	private static final int CORNERS = SCENE_SIZE + 1;
+
+	private static final ThreadLocal<ProjectionCache> CACHES = ThreadLocal.withInitial(ProjectionCache::new);
+
+	// state the cache is valid for
+	private int gameCycle;
+	private int cameraX;
+	private int cameraY;
+	private int cameraZ;
+	private int cameraPitch;
+	private int cameraYaw;
+	private int viewportWidth;
+	private int viewportHeight;
+	private int scale;
+	private int plane;
+	private int baseX;
+	private int baseY;
+
+	private int pitchSin;
+	private int pitchCos;
+	private int yawSin;
+	private int yawCos;
+	private int centerX;
+	private int centerY;
+
+	/**
+	 * Entries are only valid if their stamp matches the current generation,
+	 * so invalidating the cache does not require clearing it. Package
+	 * private so tests can exercise the wraparound.
+	 */
+	int generation;
+
+	// tile corners, by tile plane and corner x and y
+	private final int[] cornerStamps = new int[Constants.MAX_Z * CORNERS * CORNERS];
+	private final int[] cornerX = new int[Constants.MAX_Z * CORNERS * CORNERS];
+	private final int[] cornerY = new int[Constants.MAX_Z * CORNERS * CORNERS];
+
+	// tile centers, by plane, scene x, scene y and z offset
+	private long[] pointKeys = new long[256];
+	private int[] pointStamps = new int[256];
+	private int[] pointX = new int[256];
+	private int[] pointY = new int[256];
+	private int pointCount;
+
+	/**
+	 * Gets the cache for the current thread, invalidating it if the state
+	 * of the client has changed since it was last used.
+	 *
+	 * @param client the game client
+	 * @return the cache
+	 */
+	static ProjectionCache get(Client client)
+	{
+		ProjectionCache cache = CACHES.get();
+		cache.validate(client);
+		return cache;
+	}
+
+	void validate(Client client)
+	{
+		final int gameCycle = client.getGameCycle();
+		final int cameraX = client.getCameraX();
+		final int cameraY = client.getCameraY();
+		final int cameraZ = client.getCameraZ();
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
+		final int viewportWidth = client.getViewportWidth();
+		final int viewportHeight = client.getViewportHeight();
+		final int scale = client.getScale();
+		final int plane = client.getPlane();
+		final int baseX = client.getBaseX();
+		final int baseY = client.getBaseY();
+
+		if (generation != 0
+			&& gameCycle == this.gameCycle
+			&& cameraX == this.cameraX
+			&& cameraY == this.cameraY
+			&& cameraZ == this.cameraZ
+			&& cameraPitch == this.cameraPitch
+			&& cameraYaw == this.cameraYaw
+			&& viewportWidth == this.viewportWidth
+			&& viewportHeight == this.viewportHeight
+			&& scale == this.scale
+			&& plane == this.plane
+			&& baseX == this.baseX
+			&& baseY == this.baseY)
+		{
+			return;
+		}
+
+		this.gameCycle = gameCycle;
+		this.cameraX = cameraX;
+		this.cameraY = cameraY;
+		this.cameraZ = cameraZ;
+		this.cameraPitch = cameraPitch;
+		this.cameraYaw = cameraYaw;
+		this.viewportWidth = viewportWidth;
+		this.viewportHeight = viewportHeight;
+		this.scale = scale;
+		this.plane = plane;
+		this.baseX = baseX;
+		this.baseY = baseY;
+
+		pitchSin = SINE[cameraPitch];
+		pitchCos = COSINE[cameraPitch];
+		yawSin = SINE[cameraYaw];
+		yawCos = COSINE[cameraYaw];
+		centerX = viewportWidth / 2;
+		centerY = viewportHeight / 2;
+
+		if (++generation == 0)
+		{
+			Arrays.fill(cornerStamps, 0);
+			Arrays.fill(pointStamps, 0);
+			generation = 1;
+		}
+		pointCount = 0;
+	}
+
+	/**
+	 * Translates three-dimensional local coordinates to the canvas.
+	 *
+	 * @param x ground coordinate on the x axis
+	 * @param y ground coordinate on the y axis
+	 * @param z height
+	 * @return the canvas x coordinate in the high 32 bits and the canvas y
+	 * coordinate in the low 32 bits, or {@link Long#MIN_VALUE} if the point is
+	 * not on screen
+	 */
+	long project(int x, int y, int z)
+	{
+		if (x < 128 || y < 128 || x > 13056 || y > 13056)
+		{
+			return Long.MIN_VALUE;
+		}
+
+		x -= cameraX;
+		y -= cameraY;
+		z -= cameraZ;
+
+		int x1 = yawCos * x + y * yawSin >> 16;
+		int y1 = yawCos * y - yawSin * x >> 16;
+		int z1 = pitchCos * z - y1 * pitchSin >> 16;
+		int depth = z * pitchSin + y1 * pitchCos >> 16;
+
+		if (depth < 50)
+		{
+			return Long.MIN_VALUE;
+		}
+
+		int pointX = centerX + x1 * scale / depth;
+		int pointY = centerY + z1 * scale / depth;
+		return (long) pointX << 32 | (pointY & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Projects the corner of a tile at the given height plane. The corner
+	 * coordinates must be multiples of {@link Perspective#LOCAL_TILE_SIZE}
+	 * within the scene.
+	 *
+	 * @param client the game client
+	 * @param tilePlane the plane to take the height from
+	 * @param localX local x coordinate of the corner
+	 * @param localY local y coordinate of the corner
+	 * @return the projected point, as returned by {@link #project(int, int, int)}
+	 */
+	long corner(Client client, int tilePlane, int localX, int localY)
+	{
+		final int index = (tilePlane * CORNERS + localX / LOCAL_TILE_SIZE) * CORNERS + localY / LOCAL_TILE_SIZE;
+		if (cornerStamps[index] != generation)
+		{
+			int height = Perspective.getHeight(client, localX, localY, tilePlane);
+			long p = project(localX, localY, height);
+			cornerX[index] = p == Long.MIN_VALUE ? OFFSCREEN : (int) (p >> 32);
+			cornerY[index] = (int) p;
+			cornerStamps[index] = generation;
+		}
+
+		int x = cornerX[index];
+		return x == OFFSCREEN ? Long.MIN_VALUE : (long) x << 32 | (cornerY[index] & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Projects the center of a tile, offset from the ground.
+	 *
+	 * @param client the game client
+	 * @param plane the plane of the tile
+	 * @param sceneX scene x coordinate of the tile
+	 * @param sceneY scene y coordinate of the tile
+	 * @param zOffset distance from the ground
+	 * @return the projected point, as returned by {@link #project(int, int, int)}
+	 */
+	long tile(Client client, int plane, int sceneX, int sceneY, int zOffset)
+	{
+		final long key = (long) zOffset << 32 | plane << 16 | sceneX << 8 | sceneY;
+
+		int mask = pointKeys.length - 1;
+		int slot = hash(key) & mask;
+		while (pointStamps[slot] == generation)
+		{
+			if (pointKeys[slot] == key)
+			{
+				int x = pointX[slot];
+				return x == OFFSCREEN ? Long.MIN_VALUE : (long) x << 32 | (pointY[slot] & 0xFFFFFFFFL);
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		final int localX = (sceneX << Perspective.LOCAL_COORD_BITS) + LOCAL_TILE_SIZE / 2;
+		final int localY = (sceneY << Perspective.LOCAL_COORD_BITS) + LOCAL_TILE_SIZE / 2;
+		final int height = Perspective.getTileHeight(client, localX, localY, plane);
+		final long p = project(localX, localY, height - zOffset);
+
+		pointKeys[slot] = key;
+		pointStamps[slot] = generation;
+		pointX[slot] = p == Long.MIN_VALUE ? OFFSCREEN : (int) (p >> 32);
+		pointY[slot] = (int) p;
+
+		if (++pointCount * 2 > pointKeys.length)
+		{
+			grow();
+		}
+
+		return p;
+	}
+
+	private void grow()
+	{
+		final long[] keys = pointKeys;
+		final int[] stamps = pointStamps;
+		final int[] xs = pointX;
+		final int[] ys = pointY;
+
+		final int size = keys.length * 2;
+		final int mask = size - 1;
+		pointKeys = new long[size];
+		pointStamps = new int[size];
+		pointX = new int[size];
+		pointY = new int[size];
+
+		for (int i = 0; i < keys.length; ++i)
+		{
+			if (stamps[i] != generation)
+			{
+				continue;
+			}
+
+			int slot = hash(keys[i]) & mask;
+			while (pointStamps[slot] == generation)
+			{
+				slot = (slot + 1) & mask;
+			}
+
+			pointKeys[slot] = keys[i];
+			pointStamps[slot] = generation;
+			pointX[slot] = xs[i];
+			pointY[slot] = ys[i];
+		}
+	}
+
+	private static int hash(long key)
+	{
+		int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
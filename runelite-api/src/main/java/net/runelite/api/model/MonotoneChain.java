@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+/**
+ * Provides a method for computing the convex hull of points stored in
+ * primitive arrays, without allocating.
+ * <p>
+ * The implementation uses Andrew's monotone chain algorithm and runs in
+ * O(n log n) time.
+ */
+public class MonotoneChain
+{
+	/**
+	 * Computes the convex hull of the passed points.
+	 * <p>
+	 * The points are sorted in place. The hull arrays must have room for
+	 * at least {@code count + 1} points.
+	 *
+	 * @param xs x coordinates of the points
+	 * @param ys y coordinates of the points
+	 * @param count number of points
+	 * @param hullX array to store the x coordinates of the hull in
+	 * @param hullY array to store the y coordinates of the hull in
+	 * @return number of points on the hull, or 0 if there are less than 3 points
+	 */
+	public static int convexHull(int[] xs, int[] ys, int count, int[] hullX, int[] hullY)
+	{
+		if (count < 3)
+		{
+			return 0;
+		}
+
+		sort(xs, ys, count);
+
+		int k = 0;
+
+		// lower hull
+		for (int i = 0; i < count; ++i)
+		{
+			while (k >= 2 && crossProduct(hullX[k - 2], hullY[k - 2], hullX[k - 1], hullY[k - 1], xs[i], ys[i]) <= 0)
+			{
+				--k;
+			}
+
+			hullX[k] = xs[i];
+			hullY[k] = ys[i];
+			++k;
+		}
+
+		// upper hull
+		for (int i = count - 2, lower = k + 1; i >= 0; --i)
+		{
+			while (k >= lower && crossProduct(hullX[k - 2], hullY[k - 2], hullX[k - 1], hullY[k - 1], xs[i], ys[i]) <= 0)
+			{
+				--k;
+			}
+
+			hullX[k] = xs[i];
+			hullY[k] = ys[i];
+			++k;
+		}
+
+		// the last point is the same as the first
+		return k - 1;
+	}
+
+	private static long crossProduct(int px, int py, int qx, int qy, int rx, int ry)
+	{
+		return (long) (qx - px) * (ry - py) - (long) (qy - py) * (rx - px);
+	}
+
+	/**
+	 * Heap sort the points by x and then y
+	 */
+	private static void sort(int[] xs, int[] ys, int count)
+	{
+		for (int i = count / 2 - 1; i >= 0; --i)
+		{
+			siftDown(xs, ys, i, count);
+		}
+
+		for (int end = count - 1; end > 0; --end)
+		{
+			swap(xs, ys, 0, end);
+			siftDown(xs, ys, 0, end);
+		}
+	}
+
+	private static void siftDown(int[] xs, int[] ys, int i, int count)
+	{
+		for (;;)
+		{
+			int child = 2 * i + 1;
+			if (child >= count)
+			{
+				return;
+			}
+
+			if (child + 1 < count && less(xs, ys, child, child + 1))
+			{
+				++child;
+			}
+
+			if (!less(xs, ys, i, child))
+			{
+				return;
+			}
+
+			swap(xs, ys, i, child);
+			i = child;
+		}
+	}
+
+	private static boolean less(int[] xs, int[] ys, int a, int b)
+	{
+		return xs[a] < xs[b] || (xs[a] == xs[b] && ys[a] < ys[b]);
+	}
+
+	private static void swap(int[] xs, int[] ys, int a, int b)
+	{
+		int t = xs[a];
+		xs[a] = xs[b];
+		xs[b] = t;
+
+		t = ys[a];
+		ys[a] = ys[b];
+		ys[b] = t;
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+/**
+ * Computes the union of a set of axis aligned rectangles.
+ * <p>
+ * Rectangles are collected into primitive arrays and merged with a single
+ * sweep over their y coordinates. This avoids repeatedly calling
+ * {@link Area#add(Area)}, which gets more expensive as the area grows.
+ */
+public class RectangleUnion
+{
+	private int[] x1s = new int[16];
+	private int[] y1s = new int[16];
+	private int[] x2s = new int[16];
+	private int[] y2s = new int[16];
+	private int count;
+
+	/**
+	 * Adds a rectangle to the union. Empty rectangles are ignored.
+	 *
+	 * @param x1 left edge
+	 * @param y1 top edge
+	 * @param x2 right edge, exclusive
+	 * @param y2 bottom edge, exclusive
+	 */
+	public void add(int x1, int y1, int x2, int y2)
+	{
+		if (x1 >= x2 || y1 >= y2)
+		{
+			return;
+		}
+
+		if (count == x1s.length)
+		{
+			int size = count * 2;
+			x1s = Arrays.copyOf(x1s, size);
+			y1s = Arrays.copyOf(y1s, size);
+			x2s = Arrays.copyOf(x2s, size);
+			y2s = Arrays.copyOf(y2s, size);
+		}
+
+		x1s[count] = x1;
+		y1s[count] = y1;
+		x2s[count] = x2;
+		y2s[count] = y2;
+		++count;
+	}
+
+	/**
+	 * Gets the number of rectangles added.
+	 *
+	 * @return the rectangle count
+	 */
+	public int size()
+	{
+		return count;
+	}
+
+	/**
+	 * Removes all rectangles.
+	 */
+	public void clear()
+	{
+		count = 0;
+	}
+
+	/**
+	 * Computes the union of the added rectangles.
+	 *
+	 * @return the union
+	 */
+	public Area toArea()
+	{
+		return new Area(toPath());
+	}
+
+	/**
+	 * Computes the union of the added rectangles as a path of
+	 * non-overlapping rectangles.
+	 *
+	 * @return the union
+	 */
+	public Path2D toPath()
+	{
+		final Path2D path = new Path2D.Float(Path2D.WIND_NON_ZERO, count * 5);
+		if (count == 0)
+		{
+			return path;
+		}
+
+		// distinct y coordinates, which split the plane into horizontal bands
+		int[] ys = new int[count * 2];
+		System.arraycopy(y1s, 0, ys, 0, count);
+		System.arraycopy(y2s, 0, ys, count, count);
+		Arrays.sort(ys);
+		int bands = 1;
+		for (int i = 1; i < ys.length; ++i)
+		{
+			if (ys[i] != ys[bands - 1])
+			{
+				ys[bands++] = ys[i];
+			}
+		}
+
+		// rectangles ordered by their top edge
+		long[] order = new long[count];
+		for (int i = 0; i < count; ++i)
+		{
+			order[i] = (long) y1s[i] << 32 | i;
+		}
+		Arrays.sort(order);
+
+		int[] active = new int[count];
+		int activeCount = 0;
+		long[] keys = new long[count];
+
+		// intervals of the band being built, and of the band before it
+		int[] intervals = new int[count * 2];
+		int intervalCount = 0;
+		int[] prev = new int[count * 2];
+		int prevCount = 0;
+		int prevTop = 0;
+		int prevBottom = 0;
+
+		int next = 0;
+		for (int b = 0; b < bands - 1; ++b)
+		{
+			final int top = ys[b];
+			final int bottom = ys[b + 1];
+
+			// drop rectangles which end above this band
+			int kept = 0;
+			for (int i = 0; i < activeCount; ++i)
+			{
+				if (y2s[active[i]] > top)
+				{
+					active[kept++] = active[i];
+				}
+			}
+			activeCount = kept;
+
+			while (next < count && (int) (order[next] >> 32) <= top)
+			{
+				active[activeCount++] = (int) order[next++];
+			}
+
+			// merge the x intervals of the rectangles covering this band
+			for (int i = 0; i < activeCount; ++i)
+			{
+				keys[i] = (long) x1s[active[i]] << 32 | active[i];
+			}
+			Arrays.sort(keys, 0, activeCount);
+
+			intervalCount = 0;
+			for (int i = 0; i < activeCount; ++i)
+			{
+				int idx = (int) keys[i];
+				int x1 = x1s[idx];
+				int x2 = x2s[idx];
+
+				if (intervalCount > 0 && x1 <= intervals[intervalCount - 1])
+				{
+					if (x2 > intervals[intervalCount - 1])
+					{
+						intervals[intervalCount - 1] = x2;
+					}
+				}
+				else
+				{
+					intervals[intervalCount++] = x1;
+					intervals[intervalCount++] = x2;
+				}
+			}
+
+			// grow the previous band downwards if it covers the same intervals
+			if (prevBottom == top && sameIntervals(prev, prevCount, intervals, intervalCount))
+			{
+				prevBottom = bottom;
+				continue;
+			}
+
+			addBand(path, prev, prevCount, prevTop, prevBottom);
+
+			int[] tmp = prev;
+			prev = intervals;
+			intervals = tmp;
+			prevCount = intervalCount;
+			prevTop = top;
+			prevBottom = bottom;
+		}
+
+		addBand(path, prev, prevCount, prevTop, prevBottom);
+		return path;
+	}
+
+	private static boolean sameIntervals(int[] a, int aCount, int[] b, int bCount)
+	{
+		if (aCount != bCount)
+		{
+			return false;
+		}
+
+		for (int i = 0; i < aCount; ++i)
+		{
+			if (a[i] != b[i])
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static void addBand(Path2D path, int[] intervals, int intervalCount, int top, int bottom)
+	{
+		for (int i = 0; i < intervalCount; i += 2)
+		{
+			int x1 = intervals[i];
+			int x2 = intervals[i + 1];
+
+			path.moveTo(x1, top);
+			path.lineTo(x2, top);
+			path.lineTo(x2, bottom);
+			path.lineTo(x1, bottom);
+			path.closePath();
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
+import static net.runelite.api.Perspective.SCENE_SIZE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProjectionCacheTest
+{
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		int[][][] tileHeights = new int[Constants.MAX_Z][SCENE_SIZE + 1][SCENE_SIZE + 1];
+		for (int z = 0; z < Constants.MAX_Z; ++z)
+		{
+			for (int x = 0; x <= SCENE_SIZE; ++x)
+			{
+				for (int y = 0; y <= SCENE_SIZE; ++y)
+				{
+					tileHeights[z][x][y] = -((x * 7 + y * 13) % 200) - z * 240;
+				}
+			}
+		}
+
+		client = mock(Client.class);
+		when(client.getTileHeights()).thenReturn(tileHeights);
+		when(client.getTileSettings()).thenReturn(new byte[Constants.MAX_Z][SCENE_SIZE][SCENE_SIZE]);
+		when(client.getGameCycle()).thenReturn(1000);
+		when(client.getCameraX()).thenReturn(52 * LOCAL_TILE_SIZE);
+		when(client.getCameraY()).thenReturn(40 * LOCAL_TILE_SIZE);
+		when(client.getCameraZ()).thenReturn(-1000);
+		when(client.getCameraPitch()).thenReturn(256);
+		when(client.getCameraYaw()).thenReturn(0);
+		when(client.getViewportWidth()).thenReturn(765);
+		when(client.getViewportHeight()).thenReturn(503);
+		when(client.getScale()).thenReturn(512);
+		when(client.getPlane()).thenReturn(0);
+		when(client.getBaseX()).thenReturn(3200);
+		when(client.getBaseY()).thenReturn(3200);
+	}
+
+	@Test
+	public void testCacheHit()
+	{
+		ProjectionCache cache = new ProjectionCache();
+		cache.validate(client);
+
+		long p = cache.tile(client, 0, 52, 48, 0);
+		assertNotEquals(Long.MIN_VALUE, p);
+		assertEquals(worldToCanvas(52, 48), p);
+
+		int generation = cache.generation;
+		cache.validate(client);
+		assertEquals(generation, cache.generation);
+
+		// served from the cache, so the heights of the tile are only read once
+		assertEquals(p, cache.tile(client, 0, 52, 48, 0));
+		verify(client, times(2)).getTileHeights();
+	}
+
+	@Test
+	public void testInvalidation()
+	{
+		ProjectionCache cache = new ProjectionCache();
+		cache.validate(client);
+
+		long p = cache.tile(client, 0, 52, 48, 0);
+		long corner = cache.corner(client, 0, 52 * LOCAL_TILE_SIZE, 48 * LOCAL_TILE_SIZE);
+
+		int generation = cache.generation;
+		when(client.getCameraYaw()).thenReturn(64);
+		cache.validate(client);
+		assertNotEquals(generation, cache.generation);
+
+		long moved = cache.tile(client, 0, 52, 48, 0);
+		assertNotEquals(p, moved);
+		assertEquals(worldToCanvas(52, 48), moved);
+
+		long movedCorner = cache.corner(client, 0, 52 * LOCAL_TILE_SIZE, 48 * LOCAL_TILE_SIZE);
+		assertNotEquals(corner, movedCorner);
+		assertEquals(cache.project(52 * LOCAL_TILE_SIZE, 48 * LOCAL_TILE_SIZE,
+			Perspective.getHeight(client, 52 * LOCAL_TILE_SIZE, 48 * LOCAL_TILE_SIZE, 0)), movedCorner);
+	}
+
+	@Test
+	public void testGenerationWraparound()
+	{
+		ProjectionCache cache = new ProjectionCache();
+		cache.validate(client);
+		long p = cache.tile(client, 0, 52, 48, 0);
+
+		// the next invalidation wraps the generation around to the stamp of the entry above
+		cache.generation = -1;
+		when(client.getCameraYaw()).thenReturn(64);
+		cache.validate(client);
+		assertEquals(1, cache.generation);
+
+		long moved = cache.tile(client, 0, 52, 48, 0);
+		assertNotEquals(p, moved);
+		assertEquals(worldToCanvas(52, 48), moved);
+	}
+
+	@Test
+	public void testGrow()
+	{
+		ProjectionCache cache = new ProjectionCache();
+		cache.validate(client);
+
+		// more tiles than the initial table holds
+		long[] points = new long[SCENE_SIZE * 4];
+		for (int i = 0; i < points.length; ++i)
+		{
+			points[i] = cache.tile(client, 0, i % SCENE_SIZE, i / SCENE_SIZE, 0);
+		}
+		verify(client, times(points.length)).getTileHeights();
+
+		for (int i = 0; i < points.length; ++i)
+		{
+			assertEquals(points[i], cache.tile(client, 0, i % SCENE_SIZE, i / SCENE_SIZE, 0));
+		}
+		verify(client, times(points.length)).getTileHeights();
+	}
+
+	@Test
+	public void testProjectTiles()
+	{
+		// not used by other tests, so the thread's cache is invalidated
+		when(client.getGameCycle()).thenReturn(2000);
+
+		int[] sceneX = {52, 53, 50, -1, SCENE_SIZE};
+		int[] sceneY = {48, 50, 45, 48, 48};
+		int[] zOffsets = {0, 20, 0, 0, 0};
+		int[] canvasX = new int[sceneX.length];
+		int[] canvasY = new int[sceneX.length];
+
+		int visible = Perspective.projectTiles(client, sceneX, sceneY, zOffsets, sceneX.length, canvasX, canvasY);
+		assertEquals(3, visible);
+
+		for (int i = 0; i < 3; ++i)
+		{
+			Point p = Perspective.worldToCanvas(client,
+				sceneX[i] * LOCAL_TILE_SIZE + LOCAL_TILE_SIZE / 2, sceneY[i] * LOCAL_TILE_SIZE + LOCAL_TILE_SIZE / 2, 0, zOffsets[i]);
+			assertNotNull(p);
+			assertEquals(p.getX(), canvasX[i]);
+			assertEquals(p.getY(), canvasY[i]);
+		}
+
+		for (int i = 3; i < sceneX.length; ++i)
+		{
+			assertEquals(ProjectionCache.OFFSCREEN, canvasX[i]);
+			assertEquals(ProjectionCache.OFFSCREEN, canvasY[i]);
+		}
+
+		// projecting the same tiles again is served from the cache
+		int[] againX = new int[sceneX.length];
+		int[] againY = new int[sceneX.length];
+		Perspective.projectTiles(client, sceneX, sceneY, zOffsets, sceneX.length, againX, againY);
+		assertArrayEquals(canvasX, againX);
+		assertArrayEquals(canvasY, againY);
+		verify(client, times(6)).getTileHeights();
+	}
+
+	private long worldToCanvas(int sceneX, int sceneY)
+	{
+		Point p = Perspective.worldToCanvas(client,
+			sceneX * LOCAL_TILE_SIZE + LOCAL_TILE_SIZE / 2, sceneY * LOCAL_TILE_SIZE + LOCAL_TILE_SIZE / 2, 0);
+		assertNotNull(p);
+		return (long) p.getX() << 32 | (p.getY() & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.awt.Rectangle;
+import java.awt.geom.Area;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares building a clickbox by unioning one {@link Area} per triangle
+ * with {@link RectangleUnion}. The rectangles are the padded screen bounds
+ * of the triangles of a model, as computed by
+ * {@link net.runelite.api.Perspective#getClickbox}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClickboxBenchmark
+{
+	private static final int RADIUS = 5;
+
+	@Param({"100", "1000", "4000"})
+	private int triangles;
+
+	private int[] x1s;
+	private int[] y1s;
+	private int[] x2s;
+	private int[] y2s;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+
+		x1s = new int[triangles];
+		y1s = new int[triangles];
+		x2s = new int[triangles];
+		y2s = new int[triangles];
+
+		// small triangles spread over a model roughly 300x400 pixels in size
+		for (int i = 0; i < triangles; ++i)
+		{
+			int x = 200 + random.nextInt(300);
+			int y = 100 + random.nextInt(400);
+			x1s[i] = x - RADIUS;
+			y1s[i] = y - RADIUS;
+			x2s[i] = x + random.nextInt(20) + 4;
+			y2s[i] = y + random.nextInt(20) + 4;
+		}
+	}
+
+	@Benchmark
+	public Area area()
+	{
+		Area geometry = new Area();
+		for (int i = 0; i < triangles; ++i)
+		{
+			Rectangle rect = new Rectangle(x1s[i], y1s[i], x2s[i] - x1s[i], y2s[i] - y1s[i]);
+			if (geometry.contains(rect))
+			{
+				continue;
+			}
+
+			geometry.add(new Area(rect));
+		}
+		return geometry;
+	}
+
+	@Benchmark
+	public Area rectangleUnion()
+	{
+		RectangleUnion geometry = new RectangleUnion();
+		for (int i = 0; i < triangles; ++i)
+		{
+			geometry.add(x1s[i], y1s[i], x2s[i], y2s[i]);
+		}
+		return geometry.toArea();
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		Options options = new OptionsBuilder()
+			.include(ClickboxBenchmark.class.getSimpleName())
+			.build();
+
+		new Runner(options).run();
+	}
+}
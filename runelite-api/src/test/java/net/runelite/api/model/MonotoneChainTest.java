@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MonotoneChainTest
+{
+	@Test
+	public void test()
+	{
+		int[] xs = {0, 1, 2, 4, 0, 1, 3, 3};
+		int[] ys = {3, 1, 2, 4, 0, 2, 1, 3};
+		int[] hullX = new int[xs.length + 1];
+		int[] hullY = new int[xs.length + 1];
+
+		int count = MonotoneChain.convexHull(xs, ys, xs.length, hullX, hullY);
+		Assert.assertEquals(4, count);
+		Assert.assertArrayEquals(new int[]{0, 3, 4, 0}, Arrays.copyOf(hullX, count));
+		Assert.assertArrayEquals(new int[]{0, 1, 4, 3}, Arrays.copyOf(hullY, count));
+	}
+
+	@Test
+	public void test2()
+	{
+		int[] xs = {0, 4, 3, 5, 3, 1, 1, 2};
+		int[] ys = {3, 2, 5, 3, 0, 1, 2, 2};
+		int[] hullX = new int[xs.length + 1];
+		int[] hullY = new int[xs.length + 1];
+
+		int count = MonotoneChain.convexHull(xs, ys, xs.length, hullX, hullY);
+		Assert.assertEquals(5, count);
+		Assert.assertArrayEquals(new int[]{0, 1, 3, 5, 3}, Arrays.copyOf(hullX, count));
+		Assert.assertArrayEquals(new int[]{3, 1, 0, 3, 5}, Arrays.copyOf(hullY, count));
+	}
+
+	@Test
+	public void testCollinear()
+	{
+		int[] xs = {604, 609, 606, 602, 610, 609, 602, 606, 611, 607, 616, 611, 611, 610, 614, 615, 615, 615, 634, 604};
+		int[] ys = {76, 81, 78, 74, 74, 77, 72, 77, 77, 72, 74, 70, 71, 73, 82, 79, 77, 76, 71, 76};
+		int[] hullX = new int[xs.length + 1];
+		int[] hullY = new int[xs.length + 1];
+
+		int count = MonotoneChain.convexHull(xs, ys, xs.length, hullX, hullY);
+		Assert.assertTrue(count >= 3);
+	}
+
+	@Test
+	public void testTooFewPoints()
+	{
+		int[] xs = {0, 1};
+		int[] ys = {0, 1};
+		Assert.assertEquals(0, MonotoneChain.convexHull(xs, ys, 2, new int[3], new int[3]));
+	}
+}
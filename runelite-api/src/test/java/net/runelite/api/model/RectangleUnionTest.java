@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.awt.Rectangle;
+import java.awt.geom.Area;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class RectangleUnionTest
+{
+	@Test
+	public void testOverlapping()
+	{
+		RectangleUnion union = new RectangleUnion();
+		union.add(0, 0, 10, 10);
+		union.add(5, 5, 15, 15);
+		union.add(20, 0, 30, 5);
+
+		Area expected = new Area(new Rectangle(0, 0, 10, 10));
+		expected.add(new Area(new Rectangle(5, 5, 10, 10)));
+		expected.add(new Area(new Rectangle(20, 0, 10, 5)));
+
+		assertTrue(expected.equals(union.toArea()));
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		RectangleUnion union = new RectangleUnion();
+		union.add(5, 5, 5, 10);
+		assertEquals(0, union.size());
+		assertTrue(union.toArea().isEmpty());
+	}
+
+	@Test
+	public void testRandom()
+	{
+		Random random = new Random(42);
+		for (int n = 0; n < 50; ++n)
+		{
+			RectangleUnion union = new RectangleUnion();
+			Area expected = new Area();
+
+			for (int i = 0; i < 100; ++i)
+			{
+				int x = random.nextInt(200) - 50;
+				int y = random.nextInt(200) - 50;
+				int w = random.nextInt(40) + 1;
+				int h = random.nextInt(40) + 1;
+
+				union.add(x, y, x + w, y + h);
+				expected.add(new Area(new Rectangle(x, y, w, h)));
+			}
+
+			assertTrue(expected.equals(union.toArea()));
+		}
+	}
+}
@@ -24,17 +24,62 @@
  */
 package net.runelite.client.config;
 
+import java.awt.Color;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 class ConfigInvocationHandler implements InvocationHandler
 {
+	/**
+	 * Annotation metadata of a configuration method, resolved on first use
+	 */
+	@Value
+	private static class ConfigMethod
+	{
+		private final ConfigGroup group;
+		private final ConfigItem item;
+		/**
+		 * Key of the item in the configuration properties, group.key
+		 */
+		private final String propertyKey;
+		/**
+		 * Whether values of the return type are immutable, so may be cached
+		 */
+		private final boolean cacheable;
+	}
+
+	@Value
+	private static class CachedValue
+	{
+		private final Class<?> type;
+		private final Object value;
+	}
+
 	private final ConfigManager manager;
+	private final ConcurrentMap<Method, ConfigMethod> methods = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Method, MethodHandle> defaultMethods = new ConcurrentHashMap<>();
+
+	/**
+	 * Parsed configuration values, by property key
+	 */
+	private final ConcurrentMap<String, CachedValue> valueCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented whenever a value is invalidated, so values which were read
+	 * before the invalidation are not cached
+	 */
+	private final AtomicInteger cacheVersion = new AtomicInteger();
 
 	public ConfigInvocationHandler(ConfigManager manager)
 	{
@@ -44,10 +89,14 @@ class ConfigInvocationHandler implements InvocationHandler
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
-		Class<?> iface = proxy.getClass().getInterfaces()[0];
+		ConfigMethod configMethod = methods.get(method);
+		if (configMethod == null)
+		{
+			configMethod = methods.computeIfAbsent(method, m -> resolveMethod(proxy, m));
+		}
 
-		ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
-		ConfigItem item = method.getAnnotation(ConfigItem.class);
+		ConfigGroup group = configMethod.getGroup();
+		ConfigItem item = configMethod.getItem();
 
 		if (group == null)
 		{
@@ -64,34 +113,31 @@ class ConfigInvocationHandler implements InvocationHandler
 		if (args == null)
 		{
 			// Getting configuration item
-			String value = manager.getConfiguration(group.value(), item.keyName());
-
-			if (value == null)
+			if (!configMethod.isCacheable())
 			{
-				if (method.isDefault())
-				{
-					return callDefaultMethod(proxy, method, null);
-				}
-
-				return null;
+				return getValue(proxy, method, group, item);
 			}
 
-			// Convert value to return type
-			Class<?> returnType = method.getReturnType();
-			
-			try
+			final String propertyKey = configMethod.getPropertyKey();
+			final Class<?> returnType = method.getReturnType();
+
+			CachedValue cached = valueCache.get(propertyKey);
+			if (cached != null && cached.getType() == returnType)
 			{
-				return ConfigManager.stringToObject(value, returnType);
+				return cached.getValue();
 			}
-			catch (Exception e)
+
+			final int version = cacheVersion.get();
+			final Object value = getValue(proxy, method, group, item);
+
+			valueCache.put(propertyKey, new CachedValue(returnType, value));
+			if (cacheVersion.get() != version)
 			{
-				log.warn("Unable to unmarshal {}.{} ", group.value(), item.keyName(), e);
-				if (method.isDefault())
-				{
-					return callDefaultMethod(proxy, method, null);
-				}
-				return null;
+				// the value changed while it was being read
+				valueCache.remove(propertyKey);
 			}
+
+			return value;
 		}
 		else
 		{
@@ -138,7 +184,102 @@ class ConfigInvocationHandler implements InvocationHandler
 		}
 	}
 
+	/**
+	 * Invalidates the cached value of a configuration item.
+	 *
+	 * @param groupName group of the item
+	 * @param key key of the item
+	 */
+	void invalidate(String groupName, String key)
+	{
+		cacheVersion.incrementAndGet();
+		valueCache.remove(groupName + "." + key);
+	}
+
+	/**
+	 * Invalidates all cached values.
+	 */
+	void invalidateAll()
+	{
+		cacheVersion.incrementAndGet();
+		valueCache.clear();
+	}
+
+	private Object getValue(Object proxy, Method method, ConfigGroup group, ConfigItem item) throws Throwable
+	{
+		String value = manager.getConfiguration(group.value(), item.keyName());
+
+		if (value == null)
+		{
+			if (method.isDefault())
+			{
+				return callDefaultMethod(proxy, method);
+			}
+
+			return null;
+		}
+
+		// Convert value to return type
+		Class<?> returnType = method.getReturnType();
+
+		try
+		{
+			return ConfigManager.stringToObject(value, returnType);
+		}
+		catch (Exception e)
+		{
+			log.warn("Unable to unmarshal {}.{} ", group.value(), item.keyName(), e);
+			if (method.isDefault())
+			{
+				return callDefaultMethod(proxy, method);
+			}
+			return null;
+		}
+	}
+
+	private Object callDefaultMethod(Object proxy, Method method) throws Throwable
+	{
+		MethodHandle handle = defaultMethods.get(method);
+		if (handle == null)
+		{
+			handle = unreflectDefaultMethod(method);
+			defaultMethods.put(method, handle);
+		}
+
+		return handle.bindTo(proxy).invokeWithArguments();
+	}
+
+	private static ConfigMethod resolveMethod(Object proxy, Method method)
+	{
+		Class<?> iface = proxy.getClass().getInterfaces()[0];
+
+		ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
+		ConfigItem item = method.getAnnotation(ConfigItem.class);
+		String propertyKey = group != null && item != null ? group.value() + "." + item.keyName() : null;
+
+		return new ConfigMethod(group, item, propertyKey, isImmutable(method.getReturnType()));
+	}
+
+	private static boolean isImmutable(Class<?> type)
+	{
+		// Dimension, Point and Rectangle are mutable, so are parsed each time
+		return type == boolean.class || type == Boolean.class
+			|| type == int.class || type == Integer.class
+			|| type == String.class
+			|| type == Color.class
+			|| type.isEnum()
+			|| type == Instant.class
+			|| type == Keybind.class;
+	}
+
 	static Object callDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable
+	{
+		return unreflectDefaultMethod(method)
+			.bindTo(proxy)
+			.invokeWithArguments(args);
+	}
+
+	private static MethodHandle unreflectDefaultMethod(Method method) throws ReflectiveOperationException
 	{
 		// Call the default method implementation - https://rmannibucau.wordpress.com/2014/03/27/java-8-default-interface-methods-and-jdk-dynamic-proxies/
 		Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
@@ -146,8 +287,6 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		Class<?> declaringClass = method.getDeclaringClass();
 		return constructor.newInstance(declaringClass, MethodHandles.Lookup.PUBLIC | MethodHandles.Lookup.PRIVATE)
-			.unreflectSpecial(method, declaringClass)
-			.bindTo(proxy)
-			.invokeWithArguments(args);
+			.unreflectSpecial(method, declaringClass);
 	}
 }
@@ -26,7 +26,6 @@ package net.runelite.client.config;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.eventbus.EventBus;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Point;
@@ -54,6 +53,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.events.ConfigChanged;
 import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
+import net.runelite.client.eventbus.EventBus;
 import net.runelite.http.api.config.ConfigClient;
 import net.runelite.http.api.config.ConfigEntry;
 import net.runelite.http.api.config.Configuration;
@@ -143,6 +143,7 @@ public class ConfigManager
 		}
 
 		properties.clear();
+		handler.invalidateAll();
 
 		for (ConfigEntry entry : configuration.getConfig())
 		{
@@ -152,6 +153,7 @@ public class ConfigManager
 			final String key = split[1];
 			final String value = entry.getValue();
 			final String oldValue = (String) properties.setProperty(entry.getKey(), value);
+			handler.invalidate(groupName, key);
 
 			ConfigChanged configChanged = new ConfigChanged();
 			configChanged.setGroup(groupName);
@@ -190,6 +192,8 @@ public class ConfigManager
 			log.warn("Unable to load settings", ex);
 		}
 
+		handler.invalidateAll();
+
 		try
 		{
 			Map<String, String> copy = (Map) ImmutableMap.copyOf(properties);
@@ -271,6 +275,7 @@ public class ConfigManager
 		log.debug("Setting configuration value for {}.{} to {}", groupName, key, value);
 
 		String oldValue = (String) properties.setProperty(groupName + "." + key, value);
+		handler.invalidate(groupName, key);
 
 		if (client != null)
 		{
@@ -309,6 +314,7 @@ public class ConfigManager
 		log.debug("Unsetting configuration value for {}.{}", groupName, key);
 
 		String oldValue = (String) properties.remove(groupName + "." + key);
+		handler.invalidate(groupName, key);
 
 		if (client != null)
 		{
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dispatches events to the {@link Subscribe} methods of registered objects.
+ * <p>
+ * Subscriber methods are bound to their object when it is registered, using
+ * {@link LambdaMetafactory}, so posting an event is a map lookup and a call
+ * through each subscriber without reflection or allocation. Subscribers of
+ * each event type are kept in arrays which are replaced, not modified, when
+ * objects are registered or unregistered.
+ * <p>
+ * Events are delivered synchronously on the posting thread, to the
+ * subscribers of the event's class and of each of its supertypes. As with
+ * Guava's event bus, an event posted from within a subscriber is queued
+ * and delivered once the current event has reached all of its subscribers,
+ * so each thread sees events in the order they were posted. Each subscriber
+ * method is called by one thread at a time.
+ */
+@Slf4j
+public class EventBus
+{
+	@Value
+	private static class Subscriber
+	{
+		private final Object object;
+		private final Method method;
+		private final Consumer<Object> lambda;
+
+		synchronized void invoke(Object event)
+		{
+			lambda.accept(event);
+		}
+	}
+
+	/**
+	 * Events posted on a thread while it is dispatching another event
+	 */
+	private static class Dispatch
+	{
+		private final ArrayDeque<Object> events = new ArrayDeque<>();
+		private final ArrayDeque<Subscriber[]> subscribers = new ArrayDeque<>();
+		private boolean dispatching;
+	}
+
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+
+	private final Consumer<Throwable> exceptionHandler;
+
+	/**
+	 * Subscribers by the event type of their method, replaced on each change.
+	 */
+	private volatile ImmutableMap<Class<?>, Subscriber[]> subscribers = ImmutableMap.of();
+
+	/**
+	 * Subscribers for each posted class, including those of its supertypes.
+	 * Cleared whenever {@link #subscribers} changes.
+	 */
+	private final ConcurrentMap<Class<?>, Subscriber[]> dispatchCache = new ConcurrentHashMap<>();
+
+	private final ThreadLocal<Dispatch> dispatch = ThreadLocal.withInitial(Dispatch::new);
+
+	public EventBus()
+	{
+		this(e -> log.warn("uncaught exception in event subscriber", e));
+	}
+
+	public EventBus(@Nonnull Consumer<Throwable> exceptionHandler)
+	{
+		this.exceptionHandler = exceptionHandler;
+	}
+
+	/**
+	 * Registers all {@link Subscribe} methods of the object, including those
+	 * declared in its superclasses. Registering an object twice has no effect.
+	 *
+	 * @param object object to register
+	 * @throws IllegalArgumentException if a subscriber method does not take exactly one parameter
+	 */
+	public synchronized void register(@Nonnull Object object)
+	{
+		final Map<Class<?>, List<Subscriber>> builder = copySubscribers();
+		final Set<String> seen = new HashSet<>();
+
+		for (Class<?> clazz = object.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass())
+		{
+			for (Method method : clazz.getDeclaredMethods())
+			{
+				if (method.getAnnotation(Subscribe.class) == null)
+				{
+					continue;
+				}
+
+				final Class<?>[] parameterTypes = method.getParameterTypes();
+				if (parameterTypes.length != 1 || Modifier.isStatic(method.getModifiers()))
+				{
+					throw new IllegalArgumentException("@Subscribe method " + method + " must be an instance method with exactly 1 parameter");
+				}
+
+				// methods overridden by a subclass are only called once, through the override
+				if (!seen.add(method.getName() + ' ' + parameterTypes[0].getName()))
+				{
+					continue;
+				}
+
+				final List<Subscriber> list = builder.computeIfAbsent(parameterTypes[0], k -> new ArrayList<>());
+				if (list.stream().anyMatch(s -> s.getObject() == object && s.getMethod().equals(method)))
+				{
+					continue;
+				}
+
+				list.add(new Subscriber(object, method, createLambda(object, method)));
+			}
+		}
+
+		setSubscribers(builder);
+	}
+
+	/**
+	 * Unregisters all {@link Subscribe} methods of the object. Unregistering
+	 * an object which is not registered has no effect.
+	 *
+	 * @param object object to unregister
+	 */
+	public synchronized void unregister(@Nonnull Object object)
+	{
+		final Map<Class<?>, List<Subscriber>> builder = copySubscribers();
+		for (List<Subscriber> list : builder.values())
+		{
+			list.removeIf(s -> s.getObject() == object);
+		}
+
+		setSubscribers(builder);
+	}
+
+	/**
+	 * Posts an event to all subscribers of its type and of its supertypes.
+	 * If called from within a subscriber, the event is delivered after the
+	 * event currently being dispatched on this thread.
+	 *
+	 * @param event event to post
+	 */
+	public void post(@Nonnull Object event)
+	{
+		final Class<?> clazz = event.getClass();
+
+		Subscriber[] subscribers = dispatchCache.get(clazz);
+		if (subscribers == null)
+		{
+			subscribers = dispatchCache.computeIfAbsent(clazz, this::findSubscribers);
+		}
+
+		final Dispatch dispatch = this.dispatch.get();
+		if (dispatch.dispatching)
+		{
+			dispatch.events.add(event);
+			dispatch.subscribers.add(subscribers);
+			return;
+		}
+
+		dispatch.dispatching = true;
+		try
+		{
+			dispatch(event, subscribers);
+
+			while (!dispatch.events.isEmpty())
+			{
+				dispatch(dispatch.events.poll(), dispatch.subscribers.poll());
+			}
+		}
+		finally
+		{
+			dispatch.events.clear();
+			dispatch.subscribers.clear();
+			dispatch.dispatching = false;
+		}
+	}
+
+	private void dispatch(Object event, Subscriber[] subscribers)
+	{
+		for (Subscriber subscriber : subscribers)
+		{
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Throwable e)
+			{
+				exceptionHandler.accept(e);
+			}
+		}
+	}
+
+	private Map<Class<?>, List<Subscriber>> copySubscribers()
+	{
+		final Map<Class<?>, List<Subscriber>> copy = new HashMap<>();
+		for (Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			copy.put(entry.getKey(), new ArrayList<>(Arrays.asList(entry.getValue())));
+		}
+		return copy;
+	}
+
+	private void setSubscribers(Map<Class<?>, List<Subscriber>> builder)
+	{
+		final ImmutableMap.Builder<Class<?>, Subscriber[]> map = ImmutableMap.builder();
+		for (Map.Entry<Class<?>, List<Subscriber>> entry : builder.entrySet())
+		{
+			if (!entry.getValue().isEmpty())
+			{
+				map.put(entry.getKey(), entry.getValue().toArray(EMPTY));
+			}
+		}
+
+		subscribers = map.build();
+		dispatchCache.clear();
+	}
+
+	private Subscriber[] findSubscribers(Class<?> eventClass)
+	{
+		final ImmutableMap<Class<?>, Subscriber[]> subscribers = this.subscribers;
+		final List<Subscriber> list = new ArrayList<>();
+
+		for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes())
+		{
+			final Subscriber[] s = subscribers.get(type);
+			if (s != null)
+			{
+				list.addAll(Arrays.asList(s));
+			}
+		}
+
+		return list.toArray(EMPTY);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Consumer<Object> createLambda(Object object, Method method)
+	{
+		final Class<?> clazz = method.getDeclaringClass();
+
+		try
+		{
+			final MethodHandles.Lookup caller = privateLookupIn(clazz);
+			if (caller != null)
+			{
+				final MethodHandle target = caller.unreflect(method);
+				final CallSite site = LambdaMetafactory.metafactory(
+					caller,
+					"accept",
+					MethodType.methodType(Consumer.class, clazz),
+					MethodType.methodType(void.class, Object.class),
+					target,
+					MethodType.methodType(void.class, method.getParameterTypes()[0]));
+				return (Consumer<Object>) site.getTarget().invoke(object);
+			}
+		}
+		catch (Throwable e)
+		{
+			log.debug("unable to create lambda for {}, falling back to method handle", method, e);
+		}
+
+		// the method is not accessible to a lambda, so call it through a handle instead
+		try
+		{
+			method.setAccessible(true);
+			final MethodHandle handle = MethodHandles.lookup().unreflect(method)
+				.bindTo(object)
+				.asType(MethodType.methodType(void.class, Object.class));
+
+			return event ->
+			{
+				try
+				{
+					handle.invokeExact(event);
+				}
+				catch (RuntimeException | Error e)
+				{
+					throw e;
+				}
+				catch (Throwable e)
+				{
+					throw new RuntimeException(e);
+				}
+			};
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new IllegalArgumentException("unable to access @Subscribe method " + method, e);
+		}
+	}
+
+	/**
+	 * Gets a lookup with private access to the class, so lambdas may be
+	 * created for its private methods.
+	 *
+	 * @param clazz class to get a lookup for
+	 * @return the lookup, or null if none could be created
+	 */
+	private static MethodHandles.Lookup privateLookupIn(Class<?> clazz)
+	{
+		try
+		{
+			// Java 9+
+			final Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+			return (MethodHandles.Lookup) privateLookupIn.invoke(null, clazz, MethodHandles.lookup());
+		}
+		catch (ReflectiveOperationException e)
+		{
+			// Java 8, where the lookup constructor is accessible
+		}
+
+		try
+		{
+			final Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+			constructor.setAccessible(true);
+			return constructor.newInstance(clazz, MethodHandles.Lookup.PRIVATE);
+		}
+		catch (ReflectiveOperationException | RuntimeException e)
+		{
+			return null;
+		}
+	}
+}
@@ -27,13 +27,9 @@ package net.runelite.client.game;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.eventbus.Subscribe;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -49,6 +45,7 @@ import net.runelite.api.ItemID;
 import net.runelite.api.SpritePixels;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.http.api.item.ItemClient;
 import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.SearchResult;
@@ -79,7 +76,11 @@ public class ItemManager
 
 	private final ItemClient itemClient = new ItemClient();
 	private final LoadingCache<String, SearchResult> itemSearches;
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	/**
+	 * Item prices indexed by item id, with untradeable items priced as what they map to.
+	 * Replaced as a whole whenever prices are loaded.
+	 */
+	private volatile int[] itemPrices = new int[0];
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<Integer, ItemComposition> itemCompositions;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
@@ -149,15 +150,9 @@ public class ItemManager
 			ItemPrice[] prices = itemClient.getPrices();
 			if (prices != null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getItem().getId(), price);
-				}
-				itemPrices = map.build();
+				itemPrices = buildPriceTable(prices);
+				log.debug("Loaded {} prices", prices.length);
 			}
-
-			log.debug("Loaded {} prices", itemPrices.size());
 		}
 		catch (IOException e)
 		{
@@ -165,6 +160,53 @@ public class ItemManager
 		}
 	}
 
+	/**
+	 * Builds a table of prices indexed by item id, in which each untradeable item
+	 * has the sum of the prices of the items it maps to.
+	 *
+	 * @param prices item prices
+	 * @return price table
+	 */
+	static int[] buildPriceTable(ItemPrice[] prices)
+	{
+		int size = 0;
+		for (ItemPrice price : prices)
+		{
+			size = Math.max(size, price.getItem().getId() + 1);
+		}
+		for (int itemId : ItemMapping.UNTRADEABLE_IDS)
+		{
+			size = Math.max(size, itemId + 1);
+		}
+		for (int itemId : ItemMapping.TRADEABLE_IDS)
+		{
+			size = Math.max(size, itemId + 1);
+		}
+
+		final int[] tradeablePrices = new int[size];
+		for (ItemPrice price : prices)
+		{
+			final int itemId = price.getItem().getId();
+			if (itemId >= 0)
+			{
+				tradeablePrices[itemId] = price.getPrice();
+			}
+		}
+
+		final int[] table = tradeablePrices.clone();
+		for (int i = 0; i < ItemMapping.UNTRADEABLE_IDS.length; ++i)
+		{
+			int price = 0;
+			for (int j = ItemMapping.MAPPING_OFFSETS[i]; j < ItemMapping.MAPPING_OFFSETS[i + 1]; ++j)
+			{
+				price += tradeablePrices[ItemMapping.TRADEABLE_IDS[j]];
+			}
+			table[ItemMapping.UNTRADEABLE_IDS[i]] = price;
+		}
+
+		return table;
+	}
+
 	@Subscribe
 	public void onGameStateChanged(final GameStateChanged event)
 	{
@@ -191,17 +233,8 @@ public class ItemManager
 			return 1000;
 		}
 
-		int price = 0;
-		for (int mappedID : ItemMapping.map(itemID))
-		{
-			ItemPrice ip = itemPrices.get(mappedID);
-			if (ip != null)
-			{
-				price += ip.getPrice();
-			}
-		}
-
-		return price;
+		final int[] prices = itemPrices;
+		return itemID >= 0 && itemID < prices.length ? prices[itemID] : 0;
 	}
 
 	/**
@@ -29,6 +29,7 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import static net.runelite.api.ItemID.*;
 
 /**
@@ -207,6 +208,16 @@ public enum ItemMapping
 	ITEM_PHARAOHS_SCEPTRE_8(PHARAOHS_SCEPTRE, PHARAOHS_SCEPTRE_8);
 
 	private static final Multimap<Integer, Integer> MAPPINGS = HashMultimap.create();
+
+	/**
+	 * The mappings flattened into primitive arrays, for building lookup tables without boxing.
+	 * The items mapped from {@code UNTRADEABLE_IDS[i]} are the {@code TRADEABLE_IDS} from
+	 * {@code MAPPING_OFFSETS[i]} up to {@code MAPPING_OFFSETS[i + 1]}.
+	 */
+	static final int[] UNTRADEABLE_IDS;
+	static final int[] MAPPING_OFFSETS;
+	static final int[] TRADEABLE_IDS;
+
 	private final int tradeableItem;
 	private final int[] untradableItems;
 
@@ -219,6 +230,24 @@ public enum ItemMapping
 				MAPPINGS.put(itemId, item.tradeableItem);
 			}
 		}
+
+		UNTRADEABLE_IDS = new int[MAPPINGS.keySet().size()];
+		MAPPING_OFFSETS = new int[UNTRADEABLE_IDS.length + 1];
+		TRADEABLE_IDS = new int[MAPPINGS.size()];
+
+		int i = 0;
+		int offset = 0;
+		for (Map.Entry<Integer, Collection<Integer>> entry : MAPPINGS.asMap().entrySet())
+		{
+			UNTRADEABLE_IDS[i] = entry.getKey();
+			MAPPING_OFFSETS[i] = offset;
+			for (int tradeableId : entry.getValue())
+			{
+				TRADEABLE_IDS[offset++] = tradeableId;
+			}
+			++i;
+		}
+		MAPPING_OFFSETS[i] = offset;
 	}
 
 	ItemMapping(int tradeableItem, int... untradableItems)
@@ -24,9 +24,7 @@
  */
 package net.runelite.client.plugins.bankvalue;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import lombok.Getter;
@@ -82,7 +80,7 @@ class BankCalculation
 
 		gePrice = haPrice = 0;
 
-		List<Integer> itemIds = new ArrayList<>();
+		boolean hasGeItems = false;
 
 		// Generate our lists (and do some quick price additions)
 		for (WidgetItem widgetItem : widgetItems)
@@ -112,7 +110,7 @@ class BankCalculation
 
 			if (config.showGE())
 			{
-				itemIds.add(widgetItem.getId());
+				hasGeItems = true;
 			}
 
 			if (config.showHA())
@@ -128,7 +126,7 @@ class BankCalculation
 		}
 
 		// Now do the calculations
-		if (config.showGE() && !itemIds.isEmpty())
+		if (hasGeItems)
 		{
 			for (WidgetItem widgetItem : widgetItems)
 			{
@@ -25,7 +25,6 @@
  */
 package net.runelite.client.plugins.chatcommands;
 
-import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
 import java.io.IOException;
 import java.util.List;
@@ -56,6 +55,7 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.ChatboxInputListener;
 import net.runelite.client.chat.CommandManager;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ChatboxInput;
 import net.runelite.client.events.PrivateMessageInput;
 import net.runelite.client.game.ItemManager;
@@ -26,7 +26,6 @@ package net.runelite.client.plugins.chathistory;
 
 import com.google.common.collect.EvictingQueue;
 import com.google.common.collect.Sets;
-import com.google.common.eventbus.Subscribe;
 import java.util.Queue;
 import java.util.Set;
 import javax.inject.Inject;
@@ -35,6 +34,7 @@ import net.runelite.api.events.MenuOptionClicked;
 import net.runelite.api.events.SetMessage;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 
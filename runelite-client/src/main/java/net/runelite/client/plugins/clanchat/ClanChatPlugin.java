@@ -24,7 +24,6 @@
  */
 package net.runelite.client.plugins.clanchat;
 
-import com.google.common.eventbus.Subscribe;
 import java.time.temporal.ChronoUnit;
 import javax.inject.Inject;
 import net.runelite.api.ChatMessageType;
@@ -34,6 +33,7 @@ import net.runelite.api.GameState;
 import net.runelite.api.events.SetMessage;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ClanManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
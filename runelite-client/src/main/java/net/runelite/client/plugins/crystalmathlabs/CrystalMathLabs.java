@@ -24,11 +24,11 @@
  */
 package net.runelite.client.plugins.crystalmathlabs;
 
-import com.google.common.eventbus.Subscribe;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 import javax.inject.Inject;
 import net.runelite.api.Player;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.http.api.RuneLiteAPI;
 import okhttp3.Call;
 import okhttp3.Callback;
@@ -29,7 +29,6 @@
 package net.runelite.client.plugins.fairyring;
 
 import com.google.common.base.Strings;
-import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
 import java.util.Collection;
 import java.util.Map;
@@ -53,6 +52,7 @@ import net.runelite.api.widgets.WidgetID;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ChatboxInputManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -324,7 +324,7 @@ public class FairyRingPlugin extends Plugin
 			}
 
 			boolean hidden = !(filter.isEmpty()
-				|| Text.removeTags(c.getDescription().getText()).toLowerCase().contains(filter)
+				|| Text.normalize(c.getDescription().getText()).contains(filter)
 				|| code.toLowerCase().contains(filter)
 				|| tags != null && tags.contains(filter));
 
@@ -25,7 +25,6 @@
  */
 package net.runelite.client.plugins.fishing;
 
-import com.google.common.eventbus.Subscribe;
 import com.google.common.primitives.Ints;
 import com.google.inject.Provides;
 import java.time.Duration;
@@ -59,6 +58,7 @@ import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.queries.NPCQuery;
 import net.runelite.client.Notifier;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDependency;
 import net.runelite.client.plugins.PluginDescriptor;
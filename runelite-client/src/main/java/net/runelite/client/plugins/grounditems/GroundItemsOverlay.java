@@ -75,6 +75,14 @@ public class GroundItemsOverlay extends Overlay
 	private final TextComponent textComponent = new TextComponent();
 	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
 
+	// the text locations of all items are projected at once, and the arrays reused between frames
+	private LocalPoint[] groundPoints = new LocalPoint[0];
+	private int[] sceneX = new int[0];
+	private int[] sceneY = new int[0];
+	private int[] zOffsets = new int[0];
+	private int[] canvasX = new int[0];
+	private int[] canvasY = new int[0];
+
 	@Inject
 	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
 	{
@@ -162,9 +170,12 @@ public class GroundItemsOverlay extends Overlay
 		plugin.setHiddenBoxBounds(null);
 		plugin.setHighlightBoxBounds(null);
 
+		projectItems(groundItemList);
+
+		int index = -1;
 		for (GroundItem item : groundItemList)
 		{
-			final LocalPoint groundPoint = LocalPoint.fromWorld(client, item.getLocation());
+			final LocalPoint groundPoint = groundPoints[++index];
 
 			if (groundPoint == null || localLocation.distanceTo(groundPoint) > MAX_DISTANCE)
 			{
@@ -256,13 +267,7 @@ public class GroundItemsOverlay extends Overlay
 			final String itemString = itemStringBuilder.toString();
 			itemStringBuilder.setLength(0);
 
-			final Point textPoint = Perspective.getCanvasTextLocation(client,
-				graphics,
-				groundPoint,
-				itemString,
-				item.getHeight() + OFFSET_Z);
-
-			if (textPoint == null)
+			if (canvasX[index] == Integer.MIN_VALUE)
 			{
 				continue;
 			}
@@ -271,8 +276,9 @@ public class GroundItemsOverlay extends Overlay
 				? item.getOffset()
 				: offsetMap.compute(item.getLocation(), (k, v) -> v != null ? v + 1 : 0);
 
-			final int textX = textPoint.getX();
-			final int textY = textPoint.getY() - (STRING_GAP * offset);
+			// centered on the tile, as Perspective.getCanvasTextLocation does
+			final int textX = canvasX[index] - (int) (fm.getStringBounds(itemString, graphics).getWidth() / 2);
+			final int textY = canvasY[index] - (STRING_GAP * offset);
 
 			if (plugin.isHotKeyPressed())
 			{
@@ -339,6 +345,37 @@ public class GroundItemsOverlay extends Overlay
 		return null;
 	}
 
+	/**
+	 * Project the text locations of all of the items in one batch, so the
+	 * camera is read once per frame rather than once per item
+	 */
+	private void projectItems(Collection<GroundItem> groundItemList)
+	{
+		final int count = groundItemList.size();
+		if (groundPoints.length < count)
+		{
+			groundPoints = new LocalPoint[count];
+			sceneX = new int[count];
+			sceneY = new int[count];
+			zOffsets = new int[count];
+			canvasX = new int[count];
+			canvasY = new int[count];
+		}
+
+		int index = 0;
+		for (GroundItem item : groundItemList)
+		{
+			final LocalPoint groundPoint = LocalPoint.fromWorld(client, item.getLocation());
+			groundPoints[index] = groundPoint;
+			sceneX[index] = groundPoint != null ? groundPoint.getSceneX() : -1;
+			sceneY[index] = groundPoint != null ? groundPoint.getSceneY() : -1;
+			zOffsets[index] = item.getHeight() + OFFSET_Z;
+			++index;
+		}
+
+		Perspective.projectTiles(client, sceneX, sceneY, zOffsets, count, canvasX, canvasY);
+	}
+
 	private void drawRectangle(Graphics2D graphics, Rectangle rect, Color color, boolean inList, boolean hiddenBox)
 	{
 		graphics.setColor(Color.BLACK);
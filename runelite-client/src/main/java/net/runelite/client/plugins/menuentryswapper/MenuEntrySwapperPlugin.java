@@ -25,11 +25,15 @@
  */
 package net.runelite.client.plugins.menuentryswapper;
 
-import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
 import java.awt.Color;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import javax.inject.Inject;
 import lombok.Getter;
 import lombok.Setter;
@@ -48,6 +52,7 @@ import net.runelite.api.events.WidgetMenuOptionClicked;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.api.widgets.WidgetItem;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.menus.MenuManager;
@@ -72,6 +77,10 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private static final String MENU_TARGET = ColorUtil.prependColorTag("Shift-click", new Color(255, 144, 64));
 
 	private static final String CONFIG_GROUP = "shiftclick";
+
+	private static final Predicate<String> ANY_TARGET = target -> true;
+	private static final List<MenuSwapRule.Swap> SHIFT_CLICK_USE = Collections.singletonList(
+		new MenuSwapRule.Swap("use", ANY_TARGET, true));
 	private static final String ITEM_KEY_PREFIX = "item_";
 
 	private static final WidgetMenuOption FIXED_INVENTORY_TAB_CONFIGURE = new WidgetMenuOption(CONFIGURE,
@@ -119,6 +128,13 @@ public class MenuEntrySwapperPlugin extends Plugin
 	@Setter
 	private boolean shiftModifier = false;
 
+	/**
+	 * Swap rules keyed by normalized option, applied before and after the
+	 * shift-click customization
+	 */
+	private Map<String, List<MenuSwapRule>> swapRules = Collections.emptyMap();
+	private Map<String, List<MenuSwapRule>> itemSwapRules = Collections.emptyMap();
+
 	@Provides
 	MenuEntrySwapperConfig provideConfig(ConfigManager configManager)
 	{
@@ -128,6 +144,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 	@Override
 	public void startUp()
 	{
+		buildSwapRules();
+
 		if (config.shiftClickCustomization())
 		{
 			enableCustomization();
@@ -143,6 +161,11 @@ public class MenuEntrySwapperPlugin extends Plugin
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
+		if (event.getGroup().equals("menuentryswapper"))
+		{
+			buildSwapRules();
+		}
+
 		if (event.getKey().equals("shiftClickCustomization"))
 		{
 			if (config.shiftClickCustomization())
@@ -330,235 +353,265 @@ public class MenuEntrySwapperPlugin extends Plugin
 			return;
 		}
 
-		int itemId = event.getIdentifier();
-		String option = Text.removeTags(event.getOption()).toLowerCase();
-		String target = Text.removeTags(event.getTarget()).toLowerCase();
+		final String option = Text.normalize(event.getOption());
+		final String target = Text.normalize(event.getTarget());
 
-		if (option.equals("talk-to"))
+		if (applyRule(swapRules.get(option), option, target))
 		{
-			if (config.swapPickpocket() && target.contains("h.a.m."))
-			{
-				swap("pickpocket", option, target, true);
-			}
+			return;
+		}
 
-			if (config.swapAbyssTeleport() && target.contains("mage of zamorak"))
-			{
-				swap("teleport", option, target, true);
-			}
+		if (config.shiftClickCustomization() && shiftModifier && !option.equals("use"))
+		{
+			Integer customOption = getSwapConfig(event.getIdentifier());
 
-			if (config.swapBank())
+			if (customOption != null && customOption == -1)
 			{
-				swap("bank", option, target, true);
+				applySwaps(SHIFT_CLICK_USE, option, target);
 			}
+			return;
+		}
 
-			if (config.swapExchange())
-			{
-				swap("exchange", option, target, true);
-			}
+		// Put all item-related swapping after shift-click
+		applyRule(itemSwapRules.get(option), option, target);
+	}
 
-			// make sure assignment swap is higher priority than trade swap for slayer masters
-			if (config.swapAssignment())
-			{
-				swap("assignment", option, target, true);
-			}
+	@Subscribe
+	public void onPostItemComposition(PostItemComposition event)
+	{
+		ItemComposition itemComposition = event.getItemComposition();
+		Integer option = getSwapConfig(itemComposition.getId());
 
-			if (config.swapTrade())
-			{
-				swap("trade", option, target, true);
-				swap("trade-with", option, target, true);
-			}
+		if (option != null)
+		{
+			itemComposition.setShiftClickActionIndex(option);
 
-			if (config.claimSlime() && target.equals("robin"))
-			{
-				swap("claim-slime", option, target, true);
-			}
+			// Update our cached item composition too
+			ItemComposition ourItemComposition = itemManager.getItemComposition(itemComposition.getId());
+			ourItemComposition.setShiftClickActionIndex(option);
+		}
+	}
 
-			if (config.swapTravel())
-			{
-				swap("travel", option, target, true);
-				swap("pay-fare", option, target, true);
-				swap("charter", option, target, true);
-				swap("take-boat", option, target, true);
-				swap("fly", option, target, true);
-				swap("jatizso", option, target, true);
-				swap("neitiznot", option, target, true);
-				swap("rellekka", option, target, true);
-				swap("follow", option, target, true);
-				swap("transport", option, target, true);
-			}
+	@Subscribe
+	public void onFocusChanged(FocusChanged event)
+	{
+		if (!event.isFocused())
+		{
+			shiftModifier = false;
+		}
+	}
 
-			if (config.swapPay())
-			{
-				swap("pay", option, target, true);
-			}
+	/**
+	 * Compiles the swap rules from the configuration. Rules are grouped by the
+	 * option of the added entry, and within each group are in priority order.
+	 */
+	private void buildSwapRules()
+	{
+		final Map<String, List<MenuSwapRule>> rules = new HashMap<>();
+		final Map<String, List<MenuSwapRule>> itemRules = new HashMap<>();
 
-			if (config.swapDecant())
-			{
-				swap("decant", option, target, true);
-			}
+		final List<MenuSwapRule.Swap> talkTo = new ArrayList<>();
+		if (config.swapPickpocket())
+		{
+			talkTo.add(new MenuSwapRule.Swap("pickpocket", target -> target.contains("h.a.m."), true));
 		}
-		else if (config.swapTravel() && option.equals("pass") && target.equals("energy barrier"))
+		if (config.swapAbyssTeleport())
 		{
-			swap("pay-toll(2-ecto)", option, target, true);
+			talkTo.add(new MenuSwapRule.Swap("teleport", target -> target.contains("mage of zamorak"), true));
 		}
-		else if (config.swapTravel() && option.equals("open") && target.equals("gate"))
+		if (config.swapBank())
 		{
-			swap("pay-toll(10gp)", option, target, true);
+			talkTo.add(swap("bank"));
 		}
-		else if (config.swapTravel() && option.equals("inspect") && target.equals("trapdoor"))
+		if (config.swapExchange())
 		{
-			swap("travel", option, target, true);
+			talkTo.add(swap("exchange"));
 		}
-		else if (config.swapHarpoon() && option.equals("cage"))
+		// make sure assignment swap is higher priority than trade swap for slayer masters
+		if (config.swapAssignment())
 		{
-			swap("harpoon", option, target, true);
+			talkTo.add(swap("assignment"));
 		}
-		else if (config.swapHarpoon() && (option.equals("big net") || option.equals("net")))
+		if (config.swapTrade())
 		{
-			swap("harpoon", option, target, true);
+			talkTo.addAll(swaps("trade", "trade-with"));
 		}
-		else if (config.swapHomePortal() != HouseMode.ENTER && option.equals("enter"))
+		if (config.claimSlime())
 		{
-			switch (config.swapHomePortal())
-			{
-				case HOME:
-					swap("home", option, target, true);
-					break;
-				case BUILD_MODE:
-					swap("build mode", option, target, true);
-					break;
-				case FRIENDS_HOUSE:
-					swap("friend's house", option, target, true);
-					break;
-			}
+			talkTo.add(new MenuSwapRule.Swap("claim-slime", target -> target.equals("robin"), true));
 		}
-		else if (config.swapFairyRing() != FairyRingMode.OFF && config.swapFairyRing() != FairyRingMode.ZANARIS
-			&& (option.equals("zanaris") || option.equals("configure") || option.equals("tree")))
+		if (config.swapTravel())
 		{
-			if (config.swapFairyRing() == FairyRingMode.LAST_DESTINATION)
-			{
-				swap("last-destination", option, target, false);
-			}
-			else if (config.swapFairyRing() == FairyRingMode.CONFIGURE)
-			{
-				swap("configure", option, target, false);
-			}
+			talkTo.addAll(swaps("travel", "pay-fare", "charter", "take-boat", "fly", "jatizso", "neitiznot", "rellekka",
+				"follow", "transport"));
 		}
-		else if (config.swapFairyRing() == FairyRingMode.ZANARIS && option.equals("tree"))
+		if (config.swapPay())
 		{
-			swap("zanaris", option, target, false);
+			talkTo.add(swap("pay"));
 		}
-		else if (config.swapBoxTrap() && (option.equals("check") || option.equals("dismantle")))
+		if (config.swapDecant())
 		{
-			swap("reset", option, target, true);
+			talkTo.add(swap("decant"));
 		}
-		else if (config.swapBoxTrap() && option.equals("take"))
+		addRule(rules, ANY_TARGET, talkTo, "talk-to");
+
+		if (config.swapTravel())
 		{
-			swap("lay", option, target, true);
+			addRule(rules, target -> target.equals("energy barrier"), swaps("pay-toll(2-ecto)"), "pass");
+			addRule(rules, target -> target.equals("gate"), swaps("pay-toll(10gp)"), "open");
+			addRule(rules, target -> target.equals("trapdoor"), swaps("travel"), "inspect");
 		}
-		else if (config.swapChase() && option.equals("pick-up"))
+
+		if (config.swapHarpoon())
 		{
-			swap("chase", option, target, true);
+			addRule(rules, ANY_TARGET, swaps("harpoon"), "cage", "big net", "net");
 		}
-		else if (config.shiftClickCustomization() && shiftModifier && !option.equals("use"))
+
+		switch (config.swapHomePortal())
 		{
-			Integer customOption = getSwapConfig(itemId);
+			case HOME:
+				addRule(rules, ANY_TARGET, swaps("home"), "enter");
+				break;
+			case BUILD_MODE:
+				addRule(rules, ANY_TARGET, swaps("build mode"), "enter");
+				break;
+			case FRIENDS_HOUSE:
+				addRule(rules, ANY_TARGET, swaps("friend's house"), "enter");
+				break;
+		}
 
-			if (customOption != null && customOption == -1)
-			{
-				swap("use", option, target, true);
-			}
+		switch (config.swapFairyRing())
+		{
+			case LAST_DESTINATION:
+				addRule(rules, ANY_TARGET, Collections.singletonList(new MenuSwapRule.Swap("last-destination", ANY_TARGET, false)),
+					"zanaris", "configure", "tree");
+				break;
+			case CONFIGURE:
+				addRule(rules, ANY_TARGET, Collections.singletonList(new MenuSwapRule.Swap("configure", ANY_TARGET, false)),
+					"zanaris", "configure", "tree");
+				break;
+			case ZANARIS:
+				addRule(rules, ANY_TARGET, Collections.singletonList(new MenuSwapRule.Swap("zanaris", ANY_TARGET, false)),
+					"tree");
+				break;
 		}
-		// Put all item-related swapping after shift-click
-		else if (config.swapTeleportItem() && option.equals("wear"))
+
+		if (config.swapBoxTrap())
 		{
-			swap("rub", option, target, true);
-			swap("teleport", option, target, true);
+			addRule(rules, ANY_TARGET, swaps("reset"), "check", "dismantle");
+			addRule(rules, ANY_TARGET, swaps("lay"), "take");
 		}
-		else if (option.equals("wield"))
+
+		if (config.swapChase())
 		{
-			if (config.swapTeleportItem())
-			{
-				swap("teleport", option, target, true);
-			}
+			addRule(rules, ANY_TARGET, swaps("chase"), "pick-up");
+		}
+
+		if (config.swapTeleportItem())
+		{
+			addRule(itemRules, ANY_TARGET, swaps("rub", "teleport"), "wear");
+			addRule(itemRules, ANY_TARGET, swaps("teleport"), "wield");
 		}
-		else if (config.swapBones() && option.equals("bury"))
+
+		if (config.swapBones())
 		{
-			swap("use", option, target, true);
+			addRule(itemRules, ANY_TARGET, swaps("use"), "bury");
 		}
-		else if (config.swapBirdhouseEmpty() && option.equals("interact") && target.contains("birdhouse"))
+
+		if (config.swapBirdhouseEmpty())
 		{
-			swap("empty", option, target, true);
+			addRule(itemRules, target -> target.contains("birdhouse"), swaps("empty"), "interact");
 		}
+
+		swapRules = rules;
+		itemSwapRules = itemRules;
 	}
 
-	@Subscribe
-	public void onPostItemComposition(PostItemComposition event)
+	private static void addRule(Map<String, List<MenuSwapRule>> rules, Predicate<String> target,
+		List<MenuSwapRule.Swap> swaps, String... options)
 	{
-		ItemComposition itemComposition = event.getItemComposition();
-		Integer option = getSwapConfig(itemComposition.getId());
-
-		if (option != null)
+		final MenuSwapRule rule = new MenuSwapRule(target, swaps);
+		for (String option : options)
 		{
-			itemComposition.setShiftClickActionIndex(option);
-
-			// Update our cached item composition too
-			ItemComposition ourItemComposition = itemManager.getItemComposition(itemComposition.getId());
-			ourItemComposition.setShiftClickActionIndex(option);
+			rules.computeIfAbsent(option, k -> new ArrayList<>()).add(rule);
 		}
 	}
 
-	@Subscribe
-	public void onFocusChanged(FocusChanged event)
+	private static MenuSwapRule.Swap swap(String option)
 	{
-		if (!event.isFocused())
+		return new MenuSwapRule.Swap(option, ANY_TARGET, true);
+	}
+
+	private static List<MenuSwapRule.Swap> swaps(String... options)
+	{
+		final List<MenuSwapRule.Swap> swaps = new ArrayList<>(options.length);
+		for (String option : options)
 		{
-			shiftModifier = false;
+			swaps.add(swap(option));
 		}
+		return swaps;
 	}
 
-	private int searchIndex(MenuEntry[] entries, String option, String target, boolean strict)
+	/**
+	 * Applies the first of the rules matching the target.
+	 *
+	 * @return true if a rule matched
+	 */
+	private boolean applyRule(List<MenuSwapRule> rules, String option, String target)
 	{
-		for (int i = entries.length - 1; i >= 0; i--)
+		if (rules == null)
 		{
-			MenuEntry entry = entries[i];
-			String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-			String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+			return false;
+		}
 
-			if (strict)
-			{
-				if (entryOption.equals(option) && entryTarget.equals(target))
-				{
-					return i;
-				}
-			}
-			else
+		for (MenuSwapRule rule : rules)
+		{
+			if (rule.getTarget().test(target))
 			{
-				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
-				{
-					return i;
-				}
+				applySwaps(rule.getSwaps(), option, target);
+				return true;
 			}
 		}
 
-		return -1;
+		return false;
 	}
 
-	private void swap(String optionA, String optionB, String target, boolean strict)
+	private void applySwaps(List<MenuSwapRule.Swap> swaps, String option, String target)
 	{
-		MenuEntry[] entries = client.getMenuEntries();
+		for (MenuSwapRule.Swap swap : swaps)
+		{
+			if (!swap.getTarget().test(target))
+			{
+				continue;
+			}
+
+			int idxA = searchIndex(swap.getOption(), target, swap.isStrict());
+			int idxB = searchIndex(option, target, swap.isStrict());
 
-		int idxA = searchIndex(entries, optionA, target, strict);
-		int idxB = searchIndex(entries, optionB, target, strict);
+			if (idxA >= 0 && idxB >= 0)
+			{
+				client.swapMenuEntries(idxA, idxB);
+			}
+		}
+	}
 
-		if (idxA >= 0 && idxB >= 0)
+	private int searchIndex(String option, String target, boolean strict)
+	{
+		for (int i = client.getMenuOptionCount() - 1; i >= 0; i--)
 		{
-			MenuEntry entry = entries[idxA];
-			entries[idxA] = entries[idxB];
-			entries[idxB] = entry;
+			if (!client.getNormalizedMenuTarget(i).equals(target))
+			{
+				continue;
+			}
 
-			client.setMenuEntries(entries);
+			final String entryOption = client.getNormalizedMenuOption(i);
+			if (strict ? entryOption.equals(option) : entryOption.contains(option))
+			{
+				return i;
+			}
 		}
+
+		return -1;
 	}
 
 	private void removeShiftClickCustomizationMenus()
@@ -28,7 +28,6 @@ package net.runelite.client.plugins.npchighlight;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
-import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -59,6 +58,7 @@ import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.Plugin;
@@ -137,9 +137,9 @@ public class NpcIndicatorsPlugin extends Plugin
 	private final Map<Integer, MemorizedNpc> memorizedNpcs = new HashMap<>();
 
 	/**
-	 * Highlight strings from the configuration
+	 * Matcher compiled from the highlight strings in the configuration
 	 */
-	private List<String> highlights = new ArrayList<>();
+	private WildcardMatcher highlightMatcher = WildcardMatcher.compile(Collections.emptyList());
 
 	/**
 	 * NPC ids marked with the Tag option
@@ -189,7 +189,7 @@ public class NpcIndicatorsPlugin extends Plugin
 		overlayManager.add(npcSceneOverlay);
 		overlayManager.add(npcMinimapOverlay);
 		keyManager.registerKeyListener(inputListener);
-		highlights = getHighlights();
+		highlightMatcher = WildcardMatcher.compile(getHighlights());
 		clientThread.invoke(() ->
 		{
 			skipNextSpawnCheck = true;
@@ -234,7 +234,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			return;
 		}
 
-		highlights = getHighlights();
+		highlightMatcher = WildcardMatcher.compile(getHighlights());
 		rebuildAllNpcs();
 	}
 
@@ -298,15 +298,11 @@ public class NpcIndicatorsPlugin extends Plugin
 				return;
 			}
 
-			for (String highlight : highlights)
+			if (highlightMatcher.matches(npcName))
 			{
-				if (WildcardMatcher.matches(highlight, npcName))
-				{
-					memorizeNpc(npc);
-					highlightedNpcs.add(npc);
-					spawnedNpcsThisTick.add(npc);
-					break;
-				}
+				memorizeNpc(npc);
+				highlightedNpcs.add(npc);
+				spawnedNpcsThisTick.add(npc);
 			}
 		}
 	}
@@ -446,7 +442,6 @@ public class NpcIndicatorsPlugin extends Plugin
 			return;
 		}
 
-		outer:
 		for (NPC npc : client.getNpcs())
 		{
 			final String npcName = npc.getName();
@@ -462,14 +457,11 @@ public class NpcIndicatorsPlugin extends Plugin
 				continue;
 			}
 
-			for (String highlight : highlights)
+			if (highlightMatcher.matches(npcName))
 			{
-				if (WildcardMatcher.matches(highlight, npcName))
-				{
-					memorizeNpc(npc);
-					highlightedNpcs.add(npc);
-					continue outer;
-				}
+				memorizeNpc(npc);
+				highlightedNpcs.add(npc);
+				continue;
 			}
 
 			// NPC is not highlighted
@@ -24,7 +24,6 @@
  */
 package net.runelite.client.plugins.playerindicators;
 
-import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
 import java.awt.Color;
 import javax.inject.Inject;
@@ -32,10 +31,10 @@ import net.runelite.api.ClanMemberRank;
 import static net.runelite.api.ClanMemberRank.UNRANKED;
 import net.runelite.api.Client;
 import static net.runelite.api.MenuAction.*;
-import net.runelite.api.MenuEntry;
 import net.runelite.api.Player;
 import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ClanManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -156,28 +155,25 @@ public class PlayerIndicatorsPlugin extends Plugin
 
 			if (image != -1 || color != null)
 			{
-				MenuEntry[] menuEntries = client.getMenuEntries();
-				MenuEntry lastEntry = menuEntries[menuEntries.length - 1];
+				final int lastEntry = client.getMenuOptionCount() - 1;
 
 				if (color != null && config.colorPlayerMenu())
 				{
 					// strip out existing <col...
-					String target = lastEntry.getTarget();
+					String target = client.getMenuTarget(lastEntry);
 					int idx = target.indexOf('>');
 					if (idx != -1)
 					{
 						target = target.substring(idx + 1);
 					}
 
-					lastEntry.setTarget("<col=" + Integer.toHexString(color.getRGB() & 0xFFFFFF) + ">" + target);
+					client.setMenuTarget(lastEntry, "<col=" + Integer.toHexString(color.getRGB() & 0xFFFFFF) + ">" + target);
 				}
 
 				if (image != -1 && config.showClanRanks())
 				{
-					lastEntry.setTarget("<img=" + image + ">" + lastEntry.getTarget());
+					client.setMenuTarget(lastEntry, "<img=" + image + ">" + client.getMenuTarget(lastEntry));
 				}
-
-				client.setMenuEntries(menuEntries);
 			}
 		}
 	}
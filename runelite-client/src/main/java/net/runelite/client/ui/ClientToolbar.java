@@ -24,11 +24,11 @@
  */
 package net.runelite.client.ui;
 
-import com.google.common.eventbus.EventBus;
 import java.util.HashSet;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.events.NavigationButtonAdded;
 import net.runelite.client.events.NavigationButtonRemoved;
 
@@ -24,7 +24,6 @@
  */
 package net.runelite.client.util;
 
-import com.google.common.eventbus.EventBus;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
@@ -46,6 +45,7 @@ import net.runelite.api.events.GroundObjectSpawned;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.ItemSpawned;
 import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.eventbus.EventBus;
 
 @Singleton
 public class GameEventManager
@@ -25,14 +25,39 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Pattern;
-
 /**
  * A set of utilities to use when dealing with text.
  */
 public class Text
 {
-	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+	private static final char NBSP = '\u00A0';
+
+	/**
+	 * Number of entries in each normalization cache, must be a power of two
+	 */
+	private static final int CACHE_SIZE = 4096;
+
+	private static final CacheEntry[] NORMALIZE_CACHE = new CacheEntry[CACHE_SIZE];
+	private static final CacheEntry[] STANDARDIZE_CACHE = new CacheEntry[CACHE_SIZE];
+
+	private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+	/**
+	 * A cached input and its normalized form. Entries are immutable, so
+	 * they can be shared between threads without locking; a lost race
+	 * only costs a cache miss.
+	 */
+	private static class CacheEntry
+	{
+		private final String input;
+		private final String output;
+
+		private CacheEntry(String input, String output)
+		{
+			this.input = input;
+			this.output = output;
+		}
+	}
 
 	/**
 	 * Removes all tags from the given `str`.
@@ -42,7 +67,128 @@ public class Text
 	 */
 	public static String removeTags(String str)
 	{
-		return TAG_REGEXP.matcher(str).replaceAll("");
+		int tag = str.indexOf('<');
+		if (tag == -1)
+		{
+			return str;
+		}
+
+		return transform(str, tag, false, false);
+	}
+
+	/**
+	 * Removes all tags from the given `str` and converts it to lower case.
+	 * <p>
+	 * Results are cached, so normalizing a string equal to a recently
+	 * normalized one returns the same instance.
+	 *
+	 * @param str The string to normalize.
+	 * @return The given `str` without tags, in lower case.
+	 */
+	public static String normalize(String str)
+	{
+		return cached(NORMALIZE_CACHE, str, false);
+	}
+
+	/**
+	 * Removes all tags from the given `str`, converts it to lower case and
+	 * replaces non-breaking spaces with regular spaces.
+	 * <p>
+	 * Results are cached, so standardizing a string equal to a recently
+	 * standardized one returns the same instance.
+	 *
+	 * @param str The string to standardize.
+	 * @return The given `str` without tags, in lower case and with regular spaces.
+	 */
+	public static String standardize(String str)
+	{
+		return cached(STANDARDIZE_CACHE, str, true);
+	}
+
+	private static String cached(CacheEntry[] cache, String str, boolean standardizeSpaces)
+	{
+		int slot = mix(str.hashCode()) & (CACHE_SIZE - 1);
+		CacheEntry entry = cache[slot];
+		if (entry != null && entry.input.equals(str))
+		{
+			return entry.output;
+		}
+
+		String output = normalizeUncached(str, standardizeSpaces);
+		cache[slot] = new CacheEntry(str, output);
+		return output;
+	}
+
+	private static int mix(int hash)
+	{
+		return hash ^ (hash >>> 16);
 	}
 
+	private static String normalizeUncached(String str, boolean standardizeSpaces)
+	{
+		// skip the leading characters that are already normalized
+		int len = str.length();
+		int i = 0;
+		for (; i < len; ++i)
+		{
+			char c = str.charAt(i);
+			if (c == '<' || (standardizeSpaces && c == NBSP) || Character.toLowerCase(c) != c)
+			{
+				break;
+			}
+		}
+
+		if (i == len)
+		{
+			return str;
+		}
+
+		return transform(str, i, true, standardizeSpaces);
+	}
+
+	/**
+	 * Removes tags from and optionally lower cases and standardizes the
+	 * spaces of `str` in a single pass, copying characters before `from`
+	 * unchanged.
+	 */
+	private static String transform(String str, int from, boolean lowerCase, boolean standardizeSpaces)
+	{
+		int len = str.length();
+		char[] buffer = BUFFER.get();
+		if (buffer.length < len)
+		{
+			buffer = new char[Math.max(len, buffer.length * 2)];
+			BUFFER.set(buffer);
+		}
+
+		str.getChars(0, from, buffer, 0);
+		int out = from;
+
+		for (int i = from; i < len; ++i)
+		{
+			char c = str.charAt(i);
+			if (c == '<')
+			{
+				int end = str.indexOf('>', i + 1);
+				if (end != -1)
+				{
+					i = end;
+					continue;
+				}
+			}
+
+			if (standardizeSpaces && c == NBSP)
+			{
+				c = ' ';
+			}
+			else if (lowerCase)
+			{
+				c = Character.toLowerCase(c);
+			}
+
+			buffer[out++] = c;
+		}
+
+		return new String(buffer, 0, out);
+	}
 }
@@ -24,34 +24,276 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Matches text against case insensitive patterns in which {@code *} matches
+ * any sequence of characters.
+ * <p>
+ * A set of patterns is compiled into a single automaton, which has one bit of
+ * state per pattern character. Text is checked against every pattern at once,
+ * in one pass over its characters, using bitwise operations.
+ */
 public class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
+	private static final WildcardMatcher EMPTY = new WildcardMatcher(0, new long[0], new long[0], new long[0],
+		new long[128][0], Collections.emptyMap());
+
+	private final int words;
+
+	/**
+	 * Bits of the state before the first character of each pattern
+	 */
+	private final long[] start;
+
+	/**
+	 * Bits of the positions holding a {@code *}
+	 */
+	private final long[] star;
+
+	/**
+	 * Bits of the last position of each pattern
+	 */
+	private final long[] accept;
+
+	/**
+	 * Bits of the positions matching each character, for ASCII and other characters
+	 */
+	private final long[][] asciiMasks;
+	private final Map<Character, long[]> otherMasks;
+
+	private final long[] zero;
+
+	private WildcardMatcher(int words, long[] start, long[] star, long[] accept, long[][] asciiMasks,
+		Map<Character, long[]> otherMasks)
+	{
+		this.words = words;
+		this.start = start;
+		this.star = star;
+		this.accept = accept;
+		this.asciiMasks = asciiMasks;
+		this.otherMasks = otherMasks;
+		this.zero = new long[words];
+	}
+
+	/**
+	 * Compiles a set of patterns into a matcher.
+	 *
+	 * @param patterns patterns to match
+	 * @return a matcher which matches text matching any of the patterns
+	 */
+	public static WildcardMatcher compile(Collection<String> patterns)
+	{
+		if (patterns.isEmpty())
+		{
+			return EMPTY;
+		}
+
+		// a start bit for each pattern, and a bit for each character, with runs of * collapsed
+		int bits = 0;
+		for (String pattern : patterns)
+		{
+			bits += 1 + collapse(pattern).length();
+		}
+
+		final int words = (bits + 63) >>> 6;
+		final long[] start = new long[words];
+		final long[] star = new long[words];
+		final long[] accept = new long[words];
+		final long[][] asciiMasks = new long[128][];
+		final Map<Character, long[]> otherMasks = new HashMap<>();
+
+		int bit = 0;
+		for (String pattern : patterns)
+		{
+			final String collapsed = collapse(pattern);
+
+			set(start, bit++);
+			for (int i = 0; i < collapsed.length(); ++i, ++bit)
+			{
+				final char c = collapsed.charAt(i);
+				if (c == '*')
+				{
+					set(star, bit);
+					continue;
+				}
 
+				final char lower = Character.toLowerCase(c);
+				long[] mask = lower < 128 ? asciiMasks[lower] : otherMasks.get(lower);
+				if (mask == null)
+				{
+					mask = new long[words];
+					if (lower < 128)
+					{
+						asciiMasks[lower] = mask;
+					}
+					else
+					{
+						otherMasks.put(lower, mask);
+					}
+				}
+				set(mask, bit);
+			}
+
+			set(accept, bit - 1);
+		}
+
+		final long[] zero = new long[words];
+		for (int i = 0; i < asciiMasks.length; ++i)
+		{
+			if (asciiMasks[i] == null)
+			{
+				asciiMasks[i] = zero;
+			}
+		}
+
+		return new WildcardMatcher(words, start, star, accept, asciiMasks, otherMasks);
+	}
+
+	/**
+	 * Checks if the text matches a pattern.
+	 *
+	 * @param pattern pattern to match against
+	 * @param text text to match
+	 * @return true if the text matches the pattern
+	 */
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
+		return compile(Collections.singletonList(pattern)).matches(text);
+	}
+
+	/**
+	 * Checks if the text matches any of the compiled patterns.
+	 *
+	 * @param text text to match
+	 * @return true if the text matches at least one pattern
+	 */
+	public boolean matches(String text)
+	{
+		if (words == 0)
+		{
+			return false;
+		}
 
-		buffer.append("(?i)");
-		while (matcher.find())
+		if (words == 1)
 		{
-			if (matcher.group(1) != null)
+			return matchesSingleWord(text);
+		}
+
+		long[] state = start.clone();
+		long[] next = new long[words];
+		closeStars(state);
+
+		for (int i = 0; i < text.length(); ++i)
+		{
+			final long[] mask = mask(text.charAt(i));
+
+			// advance past positions matching the character, and stay on stars
+			long any = 0;
+			long carry = 0;
+			for (int w = 0; w < words; ++w)
 			{
-				matcher.appendReplacement(buffer, ".*");
+				final long s = state[w];
+				next[w] = ((s << 1 | carry) & mask[w]) | (s & star[w]);
+				carry = s >>> 63;
+				any |= next[w];
 			}
-			else
+
+			if (any == 0)
 			{
-				matcher.appendReplacement(buffer, "\\\\Q" + matcher.group(0) + "\\\\E");
+				return false;
 			}
+
+			closeStars(next);
+
+			final long[] tmp = state;
+			state = next;
+			next = tmp;
+		}
+
+		for (int w = 0; w < words; ++w)
+		{
+			if ((state[w] & accept[w]) != 0)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean matchesSingleWord(String text)
+	{
+		final long star = this.star[0];
+
+		long state = start[0];
+		state |= (state << 1) & star;
+
+		for (int i = 0; i < text.length(); ++i)
+		{
+			state = ((state << 1) & mask(text.charAt(i))[0]) | (state & star);
+			if (state == 0)
+			{
+				return false;
+			}
+
+			state |= (state << 1) & star;
+		}
+
+		return (state & accept[0]) != 0;
+	}
+
+	/**
+	 * Enters the stars following active positions, as * may match nothing.
+	 * Runs of * are collapsed when compiling, so one step is enough.
+	 */
+	private void closeStars(long[] state)
+	{
+		long carry = 0;
+		for (int w = 0; w < words; ++w)
+		{
+			final long s = state[w];
+			state[w] = s | ((s << 1 | carry) & star[w]);
+			carry = s >>> 63;
 		}
+	}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
+	private long[] mask(char c)
+	{
+		final char lower = Character.toLowerCase(c);
+		if (lower < 128)
+		{
+			return asciiMasks[lower];
+		}
 
-		return text.matches(replaced);
+		final long[] mask = otherMasks.get(lower);
+		return mask != null ? mask : zero;
+	}
+
+	private static String collapse(String pattern)
+	{
+		if (!pattern.contains("**"))
+		{
+			return pattern;
+		}
+
+		final StringBuilder sb = new StringBuilder(pattern.length());
+		for (int i = 0; i < pattern.length(); ++i)
+		{
+			final char c = pattern.charAt(i);
+			if (c != '*' || sb.length() == 0 || sb.charAt(sb.length() - 1) != '*')
+			{
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static void set(long[] bits, int bit)
+	{
+		bits[bit >>> 6] |= 1L << bit;
 	}
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.events.GameTick;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of posting an event to {@link EventBus} and to Guava's
+ * event bus. Each subscriber object also subscribes to an unrelated event,
+ * like most plugins do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark
+{
+	private static final GameTick GAME_TICK = new GameTick();
+
+	public static class Subscriber
+	{
+		private final Blackhole blackhole;
+
+		Subscriber(Blackhole blackhole)
+		{
+			this.blackhole = blackhole;
+		}
+
+		@Subscribe
+		@com.google.common.eventbus.Subscribe
+		public void onGameTick(GameTick event)
+		{
+			blackhole.consume(event);
+		}
+
+		@Subscribe
+		@com.google.common.eventbus.Subscribe
+		public void onString(String event)
+		{
+			blackhole.consume(event);
+		}
+	}
+
+	@Param({"10", "50", "100"})
+	private int subscribers;
+
+	private EventBus eventBus;
+	private com.google.common.eventbus.EventBus guavaEventBus;
+
+	@Setup
+	public void setup(Blackhole blackhole)
+	{
+		eventBus = new EventBus();
+		guavaEventBus = new com.google.common.eventbus.EventBus();
+
+		for (int i = 0; i < subscribers; ++i)
+		{
+			Subscriber subscriber = new Subscriber(blackhole);
+			eventBus.register(subscriber);
+			guavaEventBus.register(subscriber);
+		}
+	}
+
+	@Benchmark
+	public void eventBus()
+	{
+		eventBus.post(GAME_TICK);
+	}
+
+	@Benchmark
+	public void guava()
+	{
+		guavaEventBus.post(GAME_TICK);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		Options options = new OptionsBuilder()
+			.include(EventBusBenchmark.class.getSimpleName())
+			.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private static class Event
+	{
+	}
+
+	private static class SubEvent extends Event
+	{
+	}
+
+	private static class Parent
+	{
+		int events;
+
+		@Subscribe
+		public void onEvent(Event event)
+		{
+			++events;
+		}
+	}
+
+	private static class Child extends Parent
+	{
+		int subEvents;
+
+		@Subscribe
+		private void onSubEvent(SubEvent event)
+		{
+			++subEvents;
+		}
+
+		@Subscribe
+		void onString(String string)
+		{
+			throw new IllegalStateException(string);
+		}
+	}
+
+	private static class Nested
+	{
+		private final EventBus eventBus;
+		private final List<String> events;
+
+		Nested(EventBus eventBus, List<String> events)
+		{
+			this.eventBus = eventBus;
+			this.events = events;
+		}
+
+		@Subscribe
+		public void onEvent(Event event)
+		{
+			events.add("event");
+			eventBus.post("nested");
+			events.add("event done");
+		}
+
+		@Subscribe
+		public void onString(String string)
+		{
+			events.add(string);
+		}
+	}
+
+	private static class Failing
+	{
+		@Subscribe
+		public void onEvent(Event event)
+		{
+			throw new AssertionError();
+		}
+	}
+
+	private static class Invalid
+	{
+		@Subscribe
+		public void onNothing()
+		{
+		}
+	}
+
+	@Test
+	public void testPost()
+	{
+		EventBus eventBus = new EventBus();
+		Child child = new Child();
+		eventBus.register(child);
+
+		eventBus.post(new Event());
+		eventBus.post(new SubEvent());
+
+		assertEquals(2, child.events);
+		assertEquals(1, child.subEvents);
+	}
+
+	@Test
+	public void testRegisterTwice()
+	{
+		EventBus eventBus = new EventBus();
+		Child child = new Child();
+		eventBus.register(child);
+		eventBus.register(child);
+
+		eventBus.post(new Event());
+
+		assertEquals(1, child.events);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		EventBus eventBus = new EventBus();
+		Child child = new Child();
+		Parent parent = new Parent();
+		eventBus.register(child);
+		eventBus.register(parent);
+		eventBus.post(new SubEvent());
+
+		eventBus.unregister(child);
+		eventBus.post(new SubEvent());
+
+		assertEquals(1, child.events);
+		assertEquals(1, child.subEvents);
+		assertEquals(2, parent.events);
+	}
+
+	@Test
+	public void testException()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		Child child = new Child();
+		eventBus.register(child);
+
+		eventBus.post("test");
+		eventBus.post(new Event());
+
+		assertEquals(1, exceptions.size());
+		assertTrue(exceptions.get(0) instanceof IllegalStateException);
+		assertEquals(1, child.events);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSubscriber()
+	{
+		new EventBus().register(new Invalid());
+	}
+
+	@Test
+	public void testNestedPost()
+	{
+		EventBus eventBus = new EventBus();
+		List<String> events = new ArrayList<>();
+		Nested first = new Nested(eventBus, events);
+		Nested second = new Nested(eventBus, events);
+		eventBus.register(first);
+		eventBus.register(second);
+
+		eventBus.post(new Event());
+
+		// the nested events are delivered after the event has reached every subscriber
+		assertEquals(Arrays.asList("event", "event done", "event", "event done", "nested", "nested", "nested", "nested"), events);
+
+		events.clear();
+		eventBus.post("outer");
+
+		assertEquals(Arrays.asList("outer", "outer"), events);
+	}
+
+	@Test
+	public void testError()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		Failing failing = new Failing();
+		Parent parent = new Parent();
+		eventBus.register(failing);
+		eventBus.register(parent);
+
+		eventBus.post(new Event());
+
+		assertEquals(1, exceptions.size());
+		assertTrue(exceptions.get(0) instanceof AssertionError);
+		assertEquals(1, parent.events);
+	}
+}
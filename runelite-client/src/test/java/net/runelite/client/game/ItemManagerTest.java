@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import net.runelite.api.ItemID;
+import net.runelite.http.api.item.Item;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ItemManagerTest
+{
+	@Test
+	public void testBuildPriceTable()
+	{
+		int[] table = ItemManager.buildPriceTable(new ItemPrice[]{
+			price(ItemID.AHRIMS_HOOD, 100_000),
+			price(ItemID.DRAGON_SCIMITAR, 60_000),
+			price(ItemID.DRAGON_SCIMITAR_ORNAMENT_KIT, 1_500_000),
+			price(ItemID.ABYSSAL_WHIP, 2_000_000)
+		});
+
+		assertEquals(100_000, table[ItemID.AHRIMS_HOOD]);
+		assertEquals(2_000_000, table[ItemID.ABYSSAL_WHIP]);
+
+		// degraded barrows are priced as the undegraded item
+		assertEquals(100_000, table[ItemID.AHRIMS_HOOD_50]);
+
+		// ornamented items are priced as the item and the kit
+		assertEquals(1_560_000, table[ItemID.DRAGON_SCIMITAR_OR]);
+
+		// untradeable items whose tradeable item has no price
+		assertEquals(0, table[ItemID.KARILS_COIF_50]);
+	}
+
+	private static ItemPrice price(int itemId, int price)
+	{
+		Item item = new Item();
+		item.setId(itemId);
+
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setItem(item);
+		itemPrice.setPrice(price);
+		return itemPrice;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.menus.MenuManager;
+import net.runelite.client.util.Text;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MenuEntrySwapperPluginTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private MenuEntrySwapperConfig config;
+
+	@Mock
+	@Bind
+	private ConfigManager configManager;
+
+	@Mock
+	@Bind
+	private ItemManager itemManager;
+
+	@Mock
+	@Bind
+	private KeyManager keyManager;
+
+	@Mock
+	@Bind
+	private MenuManager menuManager;
+
+	@Mock
+	@Bind
+	private ShiftClickInputListener inputListener;
+
+	@Inject
+	private MenuEntrySwapperPlugin plugin;
+
+	private final List<MenuEntry> entries = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		when(client.getMenuOptionCount()).thenAnswer(invocation -> entries.size());
+		when(client.getNormalizedMenuOption(anyInt())).thenAnswer(invocation ->
+			Text.removeTags(entries.get((int) invocation.getArguments()[0]).getOption()).toLowerCase());
+		when(client.getNormalizedMenuTarget(anyInt())).thenAnswer(invocation ->
+			Text.removeTags(entries.get((int) invocation.getArguments()[0]).getTarget()).toLowerCase());
+		doAnswer(invocation ->
+		{
+			int a = (int) invocation.getArguments()[0];
+			int b = (int) invocation.getArguments()[1];
+			entries.set(a, entries.set(b, entries.get(a)));
+			return null;
+		}).when(client).swapMenuEntries(anyInt(), anyInt());
+		when(config.swapHomePortal()).thenReturn(HouseMode.ENTER);
+		when(config.swapFairyRing()).thenReturn(FairyRingMode.OFF);
+		when(config.swapBank()).thenReturn(true);
+		when(config.swapExchange()).thenReturn(true);
+
+		plugin.startUp();
+	}
+
+	@Test
+	public void testSwapBank()
+	{
+		addEntries(
+			entry("Cancel", "", MenuAction.CANCEL),
+			entry("Examine", "<col=ffff00>Banker"),
+			entry("Bank", "<col=ffff00>Banker"),
+			entry("Talk-to", "<col=ffff00>Banker")
+		);
+
+		assertArrayEquals(new String[]{"Cancel", "Examine", "Talk-to", "Bank"}, options());
+	}
+
+	@Test
+	public void testSwapPriority()
+	{
+		// bank is swapped with talk-to first, then exchange is swapped with talk-to's new position
+		addEntries(
+			entry("Cancel", "", MenuAction.CANCEL),
+			entry("Exchange", "<col=ffff00>Banker"),
+			entry("Bank", "<col=ffff00>Banker"),
+			entry("Talk-to", "<col=ffff00>Banker")
+		);
+
+		assertArrayEquals(new String[]{"Cancel", "Talk-to", "Exchange", "Bank"}, options());
+	}
+
+	@Test
+	public void testNoRule()
+	{
+		addEntries(
+			entry("Cancel", "", MenuAction.CANCEL),
+			entry("Bank", "<col=ffff00>Bank booth"),
+			entry("Collect", "<col=ffff00>Bank booth")
+		);
+
+		verify(client, never()).swapMenuEntries(anyInt(), anyInt());
+		assertArrayEquals(new String[]{"Cancel", "Bank", "Collect"}, options());
+	}
+
+	private void addEntries(MenuEntry... entries)
+	{
+		for (MenuEntry entry : entries)
+		{
+			this.entries.add(entry);
+			plugin.onMenuEntryAdded(new MenuEntryAdded(entry.getOption(), entry.getTarget(), entry.getType(),
+				entry.getIdentifier(), entry.getParam0(), entry.getParam1()));
+		}
+	}
+
+	private static MenuEntry entry(String option, String target)
+	{
+		return entry(option, target, MenuAction.NPC_FIRST_OPTION);
+	}
+
+	private static MenuEntry entry(String option, String target, MenuAction type)
+	{
+		MenuEntry entry = new MenuEntry();
+		entry.setOption(option);
+		entry.setTarget(target);
+		entry.setType(type.getId());
+		return entry;
+	}
+
+	private String[] options()
+	{
+		String[] options = new String[entries.size()];
+		for (int i = 0; i < options.length; ++i)
+		{
+			options[i] = entries.get(i).getOption();
+		}
+		return options;
+	}
+}
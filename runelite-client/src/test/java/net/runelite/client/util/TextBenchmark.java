@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2018, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link Text} against removing tags with a regular expression,
+ * on typical menu options and targets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBenchmark
+{
+	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+
+	private static final String[] INPUTS = {
+		"Walk here",
+		"Talk-to",
+		"<col=ffff00>Banker",
+		"<col=ff9040>Coins</col><col=ffffff> -> <col=ffff00>Man<col=ff00>  (level-2)",
+		"<img=2>Zezima<col=00ffff>  (level-126)",
+		"<col=ff9040>Rune platebody",
+		"Examine"
+	};
+
+	@Benchmark
+	public void regexRemoveTags(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(TAG_REGEXP.matcher(input).replaceAll(""));
+		}
+	}
+
+	@Benchmark
+	public void regexNormalize(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(TAG_REGEXP.matcher(input).replaceAll("").toLowerCase());
+		}
+	}
+
+	@Benchmark
+	public void removeTags(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(Text.removeTags(input));
+		}
+	}
+
+	@Benchmark
+	public void normalize(Blackhole blackhole)
+	{
+		for (String input : INPUTS)
+		{
+			blackhole.consume(Text.normalize(input));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		Options options = new OptionsBuilder()
+			.include(TextBenchmark.class.getSimpleName())
+			.build();
+
+		new Runner(options).run();
+	}
+}
@@ -25,6 +25,7 @@
 package net.runelite.client.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 
 public class TextTest
@@ -42,4 +43,28 @@ public class TextTest
 		assertEquals("Remove no tags", Text.removeTags("Remove no tags"));
 	}
 
+	@Test
+	public void normalize()
+	{
+		assertEquals("test", Text.normalize("<col=FFFFFF>Test</col>"));
+		assertEquals("zezima  (level-126)", Text.normalize("<col=ffffff><img=2>Zezima<col=00ffff>  (level-126)"));
+		assertEquals("a < b", Text.normalize("A < B"));
+		assertEquals("lower case", Text.normalize("lower case"));
+		assertEquals("iron\u00A0man", Text.normalize("Iron\u00A0Man"));
+	}
+
+	@Test
+	public void normalizeCached()
+	{
+		String name = Text.normalize("<col=ffff00>Banker");
+		assertSame(name, Text.normalize(new String("<col=ffff00>Banker")));
+	}
+
+	@Test
+	public void standardize()
+	{
+		assertEquals("iron man", Text.standardize("<img=3>Iron\u00A0Man"));
+		assertEquals("iron man", Text.standardize("Iron Man"));
+	}
+
 }
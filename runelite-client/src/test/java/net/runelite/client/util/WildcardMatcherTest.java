@@ -24,6 +24,8 @@
  */
 package net.runelite.client.util;
 
+import java.util.Arrays;
+import java.util.Collections;
 import static junit.framework.TestCase.assertTrue;
 import static net.runelite.client.util.WildcardMatcher.matches;
 import static org.junit.Assert.assertFalse;
@@ -40,4 +42,39 @@ public class WildcardMatcherTest
 		assertTrue(matches("rune*", "Runeite Ore"));
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testMatchesStars()
+	{
+		assertTrue(matches("*", ""));
+		assertTrue(matches("*pouch", "Rune pouch"));
+		assertTrue(matches("r**e*h", "rune pouch"));
+		assertFalse(matches("*pouch", "Rune pouches"));
+		assertFalse(matches("", "rune"));
+	}
+
+	@Test
+	public void testCompile()
+	{
+		WildcardMatcher matcher = WildcardMatcher.compile(Arrays.asList("goblin", "*guard*", "man"));
+		assertTrue(matcher.matches("Goblin"));
+		assertTrue(matcher.matches("Al Kharid guard"));
+		assertTrue(matcher.matches("Man"));
+		assertFalse(matcher.matches("Woman"));
+		assertFalse(matcher.matches("Goblins"));
+
+		assertFalse(WildcardMatcher.compile(Collections.emptyList()).matches("Goblin"));
+	}
+
+	@Test
+	public void testCompileManyPatterns()
+	{
+		// enough patterns to need more than 64 bits of state
+		WildcardMatcher matcher = WildcardMatcher.compile(Arrays.asList(
+			"abyssal demon", "greater demon", "black demon", "lesser demon", "*dragon", "cave kraken", "dust devil"));
+		assertTrue(matcher.matches("Dust devil"));
+		assertTrue(matcher.matches("Adamant dragon"));
+		assertTrue(matcher.matches("Abyssal demon"));
+		assertFalse(matcher.matches("Dragon impling"));
+	}
+}
@@ -152,6 +152,19 @@ public abstract class RSClientMixin implements RSClient
 	@Inject
 	private static int oldMenuEntryCount;
 
+	// normalized menu options and targets, keyed by the identity of the string they were normalized from
+	@Inject
+	private static String[] normalizedMenuOptionKeys = new String[0];
+
+	@Inject
+	private static String[] normalizedMenuOptions = new String[0];
+
+	@Inject
+	private static String[] normalizedMenuTargetKeys = new String[0];
+
+	@Inject
+	private static String[] normalizedMenuTargets = new String[0];
+
 	@Inject
 	private static RSItem lastItemDespawn;
 
@@ -548,6 +561,310 @@ public abstract class RSClientMixin implements RSClient
 		oldMenuEntryCount = count;
 	}
 
+	@Inject
+	@Override
+	public String getMenuOption(int index)
+	{
+		return getMenuOptions()[index];
+	}
+
+	@Inject
+	@Override
+	public void setMenuOption(int index, String option)
+	{
+		getMenuOptions()[index] = option;
+	}
+
+	@Inject
+	@Override
+	public String getMenuTarget(int index)
+	{
+		return getMenuTargets()[index];
+	}
+
+	@Inject
+	@Override
+	public void setMenuTarget(int index, String target)
+	{
+		getMenuTargets()[index] = target;
+	}
+
+	@Inject
+	@Override
+	public String getNormalizedMenuOption(int index)
+	{
+		String option = getMenuOptions()[index];
+		ensureNormalizedMenuCapacity();
+
+		if (normalizedMenuOptionKeys[index] != option)
+		{
+			normalizedMenuOptionKeys[index] = option;
+			normalizedMenuOptions[index] = normalizeMenuText(option);
+		}
+
+		return normalizedMenuOptions[index];
+	}
+
+	@Inject
+	@Override
+	public String getNormalizedMenuTarget(int index)
+	{
+		String target = getMenuTargets()[index];
+		ensureNormalizedMenuCapacity();
+
+		if (normalizedMenuTargetKeys[index] != target)
+		{
+			normalizedMenuTargetKeys[index] = target;
+			normalizedMenuTargets[index] = normalizeMenuText(target);
+		}
+
+		return normalizedMenuTargets[index];
+	}
+
+	@Inject
+	@Override
+	public int getMenuIdentifier(int index)
+	{
+		return getMenuIdentifiers()[index];
+	}
+
+	@Inject
+	@Override
+	public int getMenuType(int index)
+	{
+		return getMenuTypes()[index];
+	}
+
+	@Inject
+	@Override
+	public void setMenuType(int index, int type)
+	{
+		getMenuTypes()[index] = type;
+	}
+
+	@Inject
+	@Override
+	public int getMenuActionParam0(int index)
+	{
+		return getMenuActionParams0()[index];
+	}
+
+	@Inject
+	@Override
+	public int getMenuActionParam1(int index)
+	{
+		return getMenuActionParams1()[index];
+	}
+
+	@Inject
+	@Override
+	public int addMenuEntry(String option, String target, int type, int identifier, int param0, int param1)
+	{
+		int count = getMenuOptionCount();
+		String[] menuOptions = getMenuOptions();
+
+		if (count >= menuOptions.length)
+		{
+			return -1;
+		}
+
+		menuOptions[count] = option;
+		getMenuTargets()[count] = target;
+		getMenuTypes()[count] = type;
+		getMenuIdentifiers()[count] = identifier;
+		getMenuActionParams0()[count] = param0;
+		getMenuActionParams1()[count] = param1;
+
+		setMenuOptionCount(count + 1);
+		oldMenuEntryCount = count + 1;
+		return count;
+	}
+
+	@Inject
+	@Override
+	public void swapMenuEntries(int a, int b)
+	{
+		if (a == b)
+		{
+			return;
+		}
+
+		String[] menuOptions = getMenuOptions();
+		String option = menuOptions[a];
+		menuOptions[a] = menuOptions[b];
+		menuOptions[b] = option;
+
+		String[] menuTargets = getMenuTargets();
+		String target = menuTargets[a];
+		menuTargets[a] = menuTargets[b];
+		menuTargets[b] = target;
+
+		int[] menuIdentifiers = getMenuIdentifiers();
+		int identifier = menuIdentifiers[a];
+		menuIdentifiers[a] = menuIdentifiers[b];
+		menuIdentifiers[b] = identifier;
+
+		int[] menuTypes = getMenuTypes();
+		int type = menuTypes[a];
+		menuTypes[a] = menuTypes[b];
+		menuTypes[b] = type;
+
+		int[] params0 = getMenuActionParams0();
+		int param0 = params0[a];
+		params0[a] = params0[b];
+		params0[b] = param0;
+
+		int[] params1 = getMenuActionParams1();
+		int param1 = params1[a];
+		params1[a] = params1[b];
+		params1[b] = param1;
+
+		// keep the normalized text with the entries so it isn't recomputed
+		swapNormalized(normalizedMenuOptionKeys, a, b);
+		swapNormalized(normalizedMenuOptions, a, b);
+		swapNormalized(normalizedMenuTargetKeys, a, b);
+		swapNormalized(normalizedMenuTargets, a, b);
+	}
+
+	@Inject
+	private static void swapNormalized(String[] array, int a, int b)
+	{
+		if (a < array.length && b < array.length)
+		{
+			String tmp = array[a];
+			array[a] = array[b];
+			array[b] = tmp;
+		}
+	}
+
+	@Inject
+	@Override
+	public void moveMenuEntry(int from, int to)
+	{
+		if (from == to)
+		{
+			return;
+		}
+
+		String option = getMenuOptions()[from];
+		String target = getMenuTargets()[from];
+		int identifier = getMenuIdentifiers()[from];
+		int type = getMenuTypes()[from];
+		int param0 = getMenuActionParams0()[from];
+		int param1 = getMenuActionParams1()[from];
+
+		if (from < to)
+		{
+			shiftMenuEntries(from + 1, from, to - from);
+		}
+		else
+		{
+			shiftMenuEntries(to, to + 1, from - to);
+		}
+
+		getMenuOptions()[to] = option;
+		getMenuTargets()[to] = target;
+		getMenuIdentifiers()[to] = identifier;
+		getMenuTypes()[to] = type;
+		getMenuActionParams0()[to] = param0;
+		getMenuActionParams1()[to] = param1;
+	}
+
+	@Inject
+	@Override
+	public void removeMenuEntry(int index)
+	{
+		int count = getMenuOptionCount();
+		if (index < 0 || index >= count)
+		{
+			throw new IndexOutOfBoundsException("index " + index + ", count " + count);
+		}
+
+		shiftMenuEntries(index + 1, index, count - index - 1);
+
+		// clear the stale top slot so it doesn't keep its strings alive
+		getMenuOptions()[count - 1] = null;
+		getMenuTargets()[count - 1] = null;
+
+		setMenuOptionCount(count - 1);
+		oldMenuEntryCount = count - 1;
+	}
+
+	@Inject
+	private void shiftMenuEntries(int src, int dest, int length)
+	{
+		System.arraycopy(getMenuOptions(), src, getMenuOptions(), dest, length);
+		System.arraycopy(getMenuTargets(), src, getMenuTargets(), dest, length);
+		System.arraycopy(getMenuIdentifiers(), src, getMenuIdentifiers(), dest, length);
+		System.arraycopy(getMenuTypes(), src, getMenuTypes(), dest, length);
+		System.arraycopy(getMenuActionParams0(), src, getMenuActionParams0(), dest, length);
+		System.arraycopy(getMenuActionParams1(), src, getMenuActionParams1(), dest, length);
+	}
+
+	@Inject
+	private void ensureNormalizedMenuCapacity()
+	{
+		int size = getMenuOptions().length;
+		if (normalizedMenuOptions.length != size)
+		{
+			normalizedMenuOptionKeys = new String[size];
+			normalizedMenuOptions = new String[size];
+			normalizedMenuTargetKeys = new String[size];
+			normalizedMenuTargets = new String[size];
+		}
+	}
+
+	/**
+	 * Removes tags from and lower cases menu text, without allocating when
+	 * there is nothing to change
+	 */
+	@Inject
+	private static String normalizeMenuText(String text)
+	{
+		if (text == null)
+		{
+			return null;
+		}
+
+		int len = text.length();
+		int i = 0;
+		for (; i < len; ++i)
+		{
+			char c = text.charAt(i);
+			if (c == '<' || Character.toLowerCase(c) != c)
+			{
+				break;
+			}
+		}
+
+		if (i == len)
+		{
+			return text;
+		}
+
+		StringBuilder sb = new StringBuilder(len);
+		sb.append(text, 0, i);
+
+		while (i < len)
+		{
+			char c = text.charAt(i);
+			if (c == '<')
+			{
+				int end = text.indexOf('>', i + 1);
+				if (end != -1)
+				{
+					i = end + 1;
+					continue;
+				}
+			}
+
+			sb.append(Character.toLowerCase(c));
+			++i;
+		}
+
+		return sb.toString();
+	}
+
 	@FieldHook("menuOptionCount")
 	@Inject
 	public static void onMenuOptionsChanged(int idx)
@@ -28,11 +28,10 @@ import java.awt.Polygon;
 import java.util.ArrayList;
 import java.util.List;
 import net.runelite.api.Perspective;
-import net.runelite.api.Point;
 import net.runelite.api.mixins.Inject;
 import net.runelite.api.mixins.Mixin;
 import net.runelite.api.mixins.Shadow;
-import net.runelite.api.model.Jarvis;
+import net.runelite.api.model.MonotoneChain;
 import net.runelite.api.model.Triangle;
 import net.runelite.api.model.Vertex;
 import net.runelite.rs.api.RSClient;
@@ -47,6 +46,19 @@ public abstract class RSModelMixin implements RSModel
 	@Shadow("clientInstance")
 	private static RSClient client;
 
+	// scratch buffers for computing convex hulls, only used on the client thread
+	@Inject
+	private static int[] x2d = new int[0];
+
+	@Inject
+	private static int[] y2d = new int[0];
+
+	@Inject
+	private static int[] hullX = new int[0];
+
+	@Inject
+	private static int[] hullY = new int[0];
+
 	@Override
 	@Inject
 	public List<Vertex> getVertices()
@@ -55,7 +67,7 @@ public abstract class RSModelMixin implements RSModel
 		int[] verticesY = getVerticesY();
 		int[] verticesZ = getVerticesZ();
 
-		List<Vertex> vertices = new ArrayList<Vertex>();
+		List<Vertex> vertices = new ArrayList<Vertex>(getVerticesCount());
 
 		for (int i = 0; i < getVerticesCount(); ++i)
 		{
@@ -236,45 +248,24 @@ public abstract class RSModelMixin implements RSModel
 	@Inject
 	public Polygon getConvexHull(int localX, int localY, int orientation)
 	{
-		List<Vertex> vertices = getVertices();
-
-		// rotate vertices
-		for (int i = 0; i < vertices.size(); ++i)
+		int count = getVerticesCount();
+		if (x2d.length < count)
 		{
-			Vertex v = vertices.get(i);
-			vertices.set(i, v.rotate(orientation));
+			x2d = new int[count];
+			y2d = new int[count];
+			hullX = new int[count + 1];
+			hullY = new int[count + 1];
 		}
 
-		List<Point> points = new ArrayList<Point>();
+		// Compute canvas location of the vertices
+		int points = Perspective.modelToCanvas(client, this, localX, localY, orientation, x2d, y2d);
 
-		for (Vertex v : vertices)
-		{
-			// Compute canvas location of vertex
-			Point p = Perspective.worldToCanvas(client,
-				localX - v.getX(),
-				localY - v.getZ(),
-				client.getPlane(),
-				-v.getY());
-			if (p != null)
-			{
-				points.add(p);
-			}
-		}
-
-		// Run Jarvis march algorithm
-		points = Jarvis.convexHull(points);
-		if (points == null)
+		int hullCount = MonotoneChain.convexHull(x2d, y2d, points, hullX, hullY);
+		if (hullCount == 0)
 		{
 			return null;
 		}
 
-		// Convert to a polygon
-		Polygon p = new Polygon();
-		for (Point point : points)
-		{
-			p.addPoint(point.getX(), point.getY());
-		}
-
-		return p;
+		return new Polygon(hullX, hullY, hullCount);
 	}
 }
@@ -237,6 +237,7 @@ public interface RSClient extends RSGameEngine, Client
 	int getMouseY();
 
 	@Import("menuOptionCount")
+	@Override
 	int getMenuOptionCount();
 
 	@Import("menuOptionCount")